@@ -0,0 +1,44 @@
+#!/usr/bin/env bash
+# Measures menu search latency and throughput for a few representative queries: a whole word, a
+# short prefix as typed in a search box, and two terms. Run it with the same menu loaded against
+# the current build, which searches an in-memory index, and against a build from before the index
+# (091a8fb), which searched with a case-insensitive MongoDB regex on the name. Each run is also
+# written to results/menu-search-<label>.txt next to this script.
+#
+# Usage: menu-search.sh <menu-items-url> [label]
+#   CONNECTIONS  concurrent connections (default 50)
+#   DURATION     duration of each query run (default 30s)
+#   QUERIES      space separated queries (default "chicken sal spicy+vegetarian")
+#   TOKEN        bearer token, when the service has security enabled
+#
+# Requires hey (https://github.com/rakyll/hey) on the PATH, or Docker to run it from an image.
+
+set -euo pipefail
+
+URL=${1:?usage: $0 <menu-items-url> [label]}
+LABEL=${2:-run}
+CONNECTIONS=${CONNECTIONS:-50}
+DURATION=${DURATION:-30s}
+RESULTS_DIR=$(dirname "$0")/results
+read -r -a queries <<<"${QUERIES:-chicken sal spicy+vegetarian}"
+
+headers=()
+if [[ -n "${TOKEN:-}" ]]; then
+  headers=(-H "Authorization: Bearer $TOKEN")
+fi
+
+if command -v hey >/dev/null 2>&1; then
+  hey_cmd=(hey)
+else
+  hey_cmd=(docker run --rm --network host williamyeh/hey)
+fi
+
+# Short warm-up so JIT compilation, connection pools and the search index do not skew the runs
+"${hey_cmd[@]}" -z 10s -c 10 "${headers[@]}" "$URL?search=${queries[0]}" >/dev/null
+
+mkdir -p "$RESULTS_DIR"
+for query in "${queries[@]}"; do
+  echo "== $LABEL: search=$query, $CONNECTIONS connections for $DURATION"
+  "${hey_cmd[@]}" -z "$DURATION" -c "$CONNECTIONS" -t 30 "${headers[@]}" "$URL?search=$query" \
+    | grep -E "Requests/sec|Average|Slowest|99% in|Status code|\[[0-9]{3}\]"
+done | tee "$RESULTS_DIR/menu-search-$LABEL.txt"
@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compares request throughput of a service running on virtual threads against the same service on
+# the platform thread pool. Start the service once with SPRING_THREADS_VIRTUAL_ENABLED=true and
+# once with SPRING_THREADS_VIRTUAL_ENABLED=false, running this script against each. Each run is
+# also written to results/virtual-threads-<label>.txt next to this script.
+#
+# An endpoint that queries the database can serve no more requests at once than the connection
+# pool has connections, however many threads wait on it. Start both runs with the same pool size
+# (SPRING_DATASOURCE_HIKARI_MAXIMUM_POOL_SIZE), large enough that the pool is not what is measured.
+#
+# Usage: virtual-threads.sh <url> [label]
+#   CONNECTIONS  concurrent connections (default 2000)
+#   DURATION     duration of each run (default 60s)
+#   TOKEN        bearer token, when the service has security enabled
+#
+# Requires hey (https://github.com/rakyll/hey) on the PATH, or Docker to run it from an image.
+
+set -euo pipefail
+
+URL=${1:?usage: $0 <url> [label]}
+LABEL=${2:-run}
+CONNECTIONS=${CONNECTIONS:-2000}
+DURATION=${DURATION:-60s}
+RESULTS_DIR=$(dirname "$0")/results
+
+headers=()
+if [[ -n "${TOKEN:-}" ]]; then
+  headers=(-H "Authorization: Bearer $TOKEN")
+fi
+
+if command -v hey >/dev/null 2>&1; then
+  hey_cmd=(hey)
+else
+  hey_cmd=(docker run --rm --network host williamyeh/hey)
+fi
+
+# Short warm-up so JIT compilation and connection pools do not skew the measured run
+"${hey_cmd[@]}" -z 10s -c 100 "${headers[@]}" "$URL" >/dev/null
+
+mkdir -p "$RESULTS_DIR"
+{
+  echo "== $LABEL: $CONNECTIONS connections for $DURATION against $URL"
+  "${hey_cmd[@]}" -z "$DURATION" -c "$CONNECTIONS" -t 30 "${headers[@]}" "$URL" \
+    | grep -E "Requests/sec|Average|Slowest|99% in|Status code|\[[0-9]{3}\]"
+} | tee "$RESULTS_DIR/virtual-threads-$LABEL.txt"
@@ -1,7 +1,7 @@
 package gz.dmndev.restaurant.common.messaging.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import gz.dmndev.restaurant.common.messaging.serialization.EventJsonMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.support.converter.JsonMessageConverter;
@@ -10,15 +10,13 @@ import org.springframework.kafka.support.converter.RecordMessageConverter;
 @Configuration
 public class KafkaCommonConfig {
 
+  /**
+   * Converts records with the same settings as {@link EventJsonMapper}, so listeners read events
+   * the way they were written. Its mapper is not a bean, which leaves the REST layer with the
+   * application's own {@code ObjectMapper}.
+   */
   @Bean
-  public ObjectMapper kafkaObjectMapper() {
-    ObjectMapper mapper = new ObjectMapper();
-    mapper.registerModule(new JavaTimeModule());
-    return mapper;
-  }
-
-  @Bean
-  public RecordMessageConverter jsonMessageConverter(ObjectMapper kafkaObjectMapper) {
-    return new JsonMessageConverter(kafkaObjectMapper);
+  public RecordMessageConverter jsonMessageConverter() {
+    return new JsonMessageConverter(EventJsonMapper.configure(JsonMapper.builder()).build());
   }
 }
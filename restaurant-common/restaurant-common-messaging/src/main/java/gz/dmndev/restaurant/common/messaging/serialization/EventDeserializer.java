@@ -0,0 +1,54 @@
+package gz.dmndev.restaurant.common.messaging.serialization;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Reads JSON events straight from bytes with the shared {@link EventJsonMapper}. The target type is
+ * passed to the constructor or, when Kafka instantiates the deserializer, as the {@value
+ * #TYPE_CONFIG} configuration property.
+ */
+public class EventDeserializer<T> implements Deserializer<T> {
+
+  public static final String TYPE_CONFIG = "type";
+
+  private ObjectReader reader;
+
+  public EventDeserializer() {}
+
+  public EventDeserializer(Class<T> type) {
+    this.reader = EventJsonMapper.readerFor(type);
+  }
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    Object type = configs.get(TYPE_CONFIG);
+    if (type instanceof Class<?> typeClass) {
+      reader = EventJsonMapper.readerFor(typeClass);
+    } else if (type instanceof String typeName) {
+      try {
+        reader = EventJsonMapper.readerFor(Class.forName(typeName));
+      } catch (ClassNotFoundException e) {
+        throw new IllegalArgumentException("Unknown event type: " + typeName, e);
+      }
+    }
+  }
+
+  @Override
+  public T deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+    if (reader == null) {
+      throw new IllegalStateException("Event type is not configured");
+    }
+    try {
+      return reader.readValue(data);
+    } catch (IOException e) {
+      throw new SerializationException("Error deserializing JSON message", e);
+    }
+  }
+}
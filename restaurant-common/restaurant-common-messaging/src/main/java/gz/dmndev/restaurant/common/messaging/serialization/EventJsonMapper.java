@@ -0,0 +1,60 @@
+package gz.dmndev.restaurant.common.messaging.serialization;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+/**
+ * The JSON mapper shared by everything that reads or writes events, configured like the Spring Boot
+ * default: Java time types as ISO-8601 strings, unknown properties ignored.
+ *
+ * <p>Building readers and writers is the costly part of using Jackson, so one of each is cached per
+ * type. They are immutable and safe to share between threads. Only they are handed out, so the
+ * mapper cannot be reconfigured after start-up. It is deliberately not a Spring bean: the REST
+ * layer keeps the application's own {@code ObjectMapper}.
+ */
+public final class EventJsonMapper {
+
+  private static final ObjectMapper OBJECT_MAPPER = configure(JsonMapper.builder()).build();
+
+  private static final ClassValue<ObjectReader> READERS =
+      new ClassValue<>() {
+        @Override
+        protected ObjectReader computeValue(Class<?> type) {
+          return OBJECT_MAPPER.readerFor(type);
+        }
+      };
+
+  private static final ClassValue<ObjectWriter> WRITERS =
+      new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(Class<?> type) {
+          return OBJECT_MAPPER.writerFor(type);
+        }
+      };
+
+  private EventJsonMapper() {}
+
+  /**
+   * Applies the event settings to a builder, for code that needs a mapper instance of its own, such
+   * as a message converter, but must read and write events the same way.
+   */
+  public static JsonMapper.Builder configure(JsonMapper.Builder builder) {
+    return builder
+        .addModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+  }
+
+  public static ObjectReader readerFor(Class<?> type) {
+    return READERS.get(type);
+  }
+
+  public static ObjectWriter writerFor(Class<?> type) {
+    return WRITERS.get(type);
+  }
+}
@@ -0,0 +1,24 @@
+package gz.dmndev.restaurant.common.messaging.serialization;
+
+import java.io.IOException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Writes events as JSON straight to bytes with the shared {@link EventJsonMapper}, without an
+ * intermediate {@code String} and without type headers.
+ */
+public class EventSerializer<T> implements Serializer<T> {
+
+  @Override
+  public byte[] serialize(String topic, T data) {
+    if (data == null) {
+      return null;
+    }
+    try {
+      return EventJsonMapper.writerFor(data.getClass()).writeValueAsBytes(data);
+    } catch (IOException e) {
+      throw new SerializationException("Error serializing JSON message", e);
+    }
+  }
+}
@@ -2,50 +2,38 @@ package gz.dmndev.restaurant.common.messaging.config;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import gz.dmndev.restaurant.common.messaging.serialization.EventJsonMapper;
 import java.time.LocalDateTime;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.kafka.support.converter.JsonMessageConverter;
 import org.springframework.kafka.support.converter.RecordMessageConverter;
+import org.springframework.messaging.Message;
 
 class KafkaCommonConfigTest {
 
   @Test
-  void kafkaObjectMapperShouldHandleJavaTimeTypes() {
+  void jsonMessageConverterShouldReadEventsLikeEventJsonMapper() throws Exception {
     // Arrange
     KafkaCommonConfig config = new KafkaCommonConfig();
-    ObjectMapper mapper = config.kafkaObjectMapper();
-    LocalDateTime now = LocalDateTime.now();
-    TestEvent event = new TestEvent("test-id", now);
-
-    // Act & Assert
-    try {
-      String json = mapper.writeValueAsString(event);
-      TestEvent deserializedEvent = mapper.readValue(json, TestEvent.class);
-
-      // Verify deserialization works properly
-      assertEquals("test-id", deserializedEvent.getId());
-      // Compare just the date parts to avoid millisecond differences
-      assertEquals(now.toLocalDate(), deserializedEvent.getTimestamp().toLocalDate());
-    } catch (Exception e) {
-      fail("Exception while testing mapper: " + e.getMessage());
-    }
-  }
-
-  @Test
-  void jsonMessageConverterShouldUseConfiguredObjectMapper() {
-    // Arrange
-    KafkaCommonConfig config = new KafkaCommonConfig();
-    ObjectMapper mapper = config.kafkaObjectMapper();
+    RecordMessageConverter converter = config.jsonMessageConverter();
+    LocalDateTime timestamp = LocalDateTime.of(2025, 5, 1, 12, 30);
+    String json =
+        EventJsonMapper.writerFor(TestEvent.class)
+            .writeValueAsString(new TestEvent("test-id", timestamp));
+    String jsonWithNewField = json.replace("}", ",\"addedLater\":true}");
+    ConsumerRecord<String, String> record =
+        new ConsumerRecord<>("test-topic", 0, 0L, "key", jsonWithNewField);
 
     // Act
-    RecordMessageConverter converter = config.jsonMessageConverter(mapper);
+    Message<?> message = converter.toMessage(record, null, null, TestEvent.class);
 
     // Assert
+    assertTrue(json.contains("\"2025-05-01T12:30:00\""));
     assertTrue(converter instanceof JsonMessageConverter);
-    // Verify the converter is using our mapper
-    JsonMessageConverter jsonConverter = (JsonMessageConverter) converter;
-    assertNotNull(jsonConverter);
+    TestEvent event = (TestEvent) message.getPayload();
+    assertEquals("test-id", event.getId());
+    assertEquals(timestamp, event.getTimestamp());
   }
 
   // Helper class for testing
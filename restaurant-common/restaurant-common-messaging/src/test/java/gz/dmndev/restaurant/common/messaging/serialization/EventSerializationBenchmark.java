@@ -0,0 +1,111 @@
+package gz.dmndev.restaurant.common.messaging.serialization;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+/**
+ * Compares the cost per event of the event serializers with the serialization they replace: the
+ * spring-kafka {@link JsonSerializer}, writing through a {@code String}, and reading with a plain
+ * {@link ObjectMapper} per deserializer. The baselines get the {@link EventJsonMapper} settings, so
+ * every variant writes and reads the same JSON.
+ *
+ * <p>Run {@link #main} from the IDE, or with the test classpath on the command line; the {@code
+ * gc.alloc.rate.norm} column gives the bytes allocated per event.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+  private final ObjectMapper plainObjectMapper =
+      EventJsonMapper.configure(JsonMapper.builder()).build();
+  private final JsonSerializer<OrderPlaced> springJsonSerializer =
+      new JsonSerializer<>(plainObjectMapper);
+  private final EventSerializer<OrderPlaced> eventSerializer = new EventSerializer<>();
+  private final EventDeserializer<OrderPlaced> eventDeserializer =
+      new EventDeserializer<>(OrderPlaced.class);
+
+  private OrderPlaced event;
+  private byte[] payload;
+
+  @Setup
+  public void setUp() {
+    event =
+        new OrderPlaced(
+            "3f2c9a1e-6d7b-4a8e-9c51-2b7e0f4d8a16",
+            "customer-42",
+            List.of(
+                new OrderLine("menu-item-1", "Margherita", 2, new BigDecimal("9.50")),
+                new OrderLine("menu-item-7", "Tiramisu", 1, new BigDecimal("6.00"))),
+            new BigDecimal("25.00"),
+            Instant.parse("2025-05-01T12:00:00Z"));
+    payload = eventSerializer.serialize("order-events", event);
+  }
+
+  @Benchmark
+  public byte[] serializeWithSpringJsonSerializer() {
+    return springJsonSerializer.serialize("order-events", event);
+  }
+
+  @Benchmark
+  public byte[] serializeThroughString() throws IOException {
+    return plainObjectMapper.writeValueAsString(event).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public byte[] serializeWithEventSerializer() {
+    return eventSerializer.serialize("order-events", event);
+  }
+
+  @Benchmark
+  public OrderPlaced deserializeWithObjectMapper() throws IOException {
+    return plainObjectMapper.readValue(payload, OrderPlaced.class);
+  }
+
+  @Benchmark
+  public OrderPlaced deserializeWithEventDeserializer() {
+    return eventDeserializer.deserialize("order-events", payload);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(EventSerializationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+
+  public record OrderLine(String menuItemId, String name, int quantity, BigDecimal unitPrice) {}
+
+  public record OrderPlaced(
+      String orderId,
+      String customerId,
+      List<OrderLine> lines,
+      BigDecimal totalAmount,
+      Instant placedAt) {}
+}
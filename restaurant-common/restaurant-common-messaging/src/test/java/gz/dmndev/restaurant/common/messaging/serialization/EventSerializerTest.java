@@ -0,0 +1,91 @@
+package gz.dmndev.restaurant.common.messaging.serialization;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class EventSerializerTest {
+
+  private final EventSerializer<TestEvent> serializer = new EventSerializer<>();
+
+  @Test
+  void shouldRoundTripJavaTimeTypes() {
+    // Arrange
+    TestEvent event =
+        new TestEvent(
+            "event-1",
+            new BigDecimal("12.50"),
+            Instant.parse("2025-05-01T12:00:00Z"),
+            LocalDateTime.of(2025, 5, 1, 14, 30));
+    EventDeserializer<TestEvent> deserializer = new EventDeserializer<>(TestEvent.class);
+
+    // Act
+    byte[] serialized = serializer.serialize("test-topic", event);
+    TestEvent result = deserializer.deserialize("test-topic", serialized);
+
+    // Assert
+    assertEquals(event, result);
+    String json = new String(serialized, StandardCharsets.UTF_8);
+    assertTrue(json.contains("\"occurredAt\":\"2025-05-01T12:00:00Z\""));
+    assertTrue(json.contains("\"scheduledFor\":\"2025-05-01T14:30:00\""));
+  }
+
+  @Test
+  void shouldReturnNullForNullData() {
+    // Act & Assert
+    assertNull(serializer.serialize("test-topic", null));
+  }
+
+  @Test
+  void shouldIgnoreUnknownProperties() {
+    // Arrange
+    byte[] json = "{\"id\":\"event-1\",\"addedLater\":true}".getBytes(StandardCharsets.UTF_8);
+    EventDeserializer<TestEvent> deserializer = new EventDeserializer<>(TestEvent.class);
+
+    // Act
+    TestEvent result = deserializer.deserialize("test-topic", json);
+
+    // Assert
+    assertEquals("event-1", result.id());
+  }
+
+  @Test
+  void shouldConfigureTargetTypeByClassName() {
+    // Arrange
+    EventDeserializer<TestEvent> deserializer = new EventDeserializer<>();
+    deserializer.configure(Map.of(EventDeserializer.TYPE_CONFIG, TestEvent.class.getName()), false);
+    byte[] json = "{\"id\":\"event-1\"}".getBytes(StandardCharsets.UTF_8);
+
+    // Act
+    TestEvent result = deserializer.deserialize("test-topic", json);
+
+    // Assert
+    assertEquals("event-1", result.id());
+  }
+
+  @Test
+  void shouldRejectUnknownTypeName() {
+    // Arrange
+    EventDeserializer<TestEvent> deserializer = new EventDeserializer<>();
+    Map<String, Object> configs = Map.of(EventDeserializer.TYPE_CONFIG, "com.example.Missing");
+
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> deserializer.configure(configs, false));
+  }
+
+  @Test
+  void shouldCacheReadersAndWritersPerType() {
+    // Act & Assert
+    assertSame(
+        EventJsonMapper.readerFor(TestEvent.class), EventJsonMapper.readerFor(TestEvent.class));
+    assertSame(
+        EventJsonMapper.writerFor(TestEvent.class), EventJsonMapper.writerFor(TestEvent.class));
+  }
+
+  record TestEvent(String id, BigDecimal amount, Instant occurredAt, LocalDateTime scheduledFor) {}
+}
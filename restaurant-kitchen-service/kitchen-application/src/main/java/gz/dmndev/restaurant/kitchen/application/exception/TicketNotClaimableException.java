@@ -0,0 +1,17 @@
+package gz.dmndev.restaurant.kitchen.application.exception;
+
+/**
+ * Exception thrown when a ticket cannot be claimed for preparation because it no longer exists, has
+ * left the RECEIVED status or was claimed by someone else first
+ */
+public class TicketNotClaimableException extends KitchenApplicationException {
+
+  /**
+   * Creates a new TicketNotClaimableException with the specified message
+   *
+   * @param message the detail message
+   */
+  public TicketNotClaimableException(String message) {
+    super(message);
+  }
+}
@@ -19,10 +19,19 @@ public interface CreateTicketUseCase {
       String productId, String productName, Integer quantity, String specialInstructions) {}
 
   /**
-   * Create a new kitchen ticket
+   * Create a new kitchen ticket. Creating a ticket for an order that already has one is a no-op.
    *
    * @param command the command with ticket details
-   * @return the ID of the created ticket
+   * @return the ID of the ticket for the order
    */
   String createTicket(CreateTicketCommand command);
+
+  /**
+   * Create kitchen tickets for several orders, writing them to the store in one bulk insert.
+   * Orders that already have a ticket are skipped.
+   *
+   * @param commands the commands with ticket details
+   * @return the IDs of the tickets that were created, in command order
+   */
+  List<String> createTickets(List<CreateTicketCommand> commands);
 }
@@ -0,0 +1,23 @@
+package gz.dmndev.restaurant.kitchen.application.port.in;
+
+import java.util.Optional;
+
+/** Use case for handing out waiting kitchen tickets to chefs */
+public interface DispatchTicketUseCase {
+
+  /**
+   * Claim the most urgent waiting ticket for a chef and start its preparation. Tickets are handed
+   * out by priority, oldest first within the same priority.
+   *
+   * @param chefId the ID of the chef taking the ticket
+   * @return the ID of the claimed ticket, or empty if no ticket is waiting
+   */
+  Optional<String> pollNextTicket(String chefId);
+
+  /**
+   * Count the tickets waiting to be claimed
+   *
+   * @return the number of waiting tickets
+   */
+  int countWaitingTickets();
+}
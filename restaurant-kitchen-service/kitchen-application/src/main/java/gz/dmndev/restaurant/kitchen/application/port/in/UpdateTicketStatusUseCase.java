@@ -31,6 +31,8 @@ public interface UpdateTicketStatusUseCase {
    * @param ticketId the ID of the ticket
    * @param chefId the ID of the chef assigned to the ticket
    * @return true if preparation was started, false otherwise
+   * @throws gz.dmndev.restaurant.kitchen.application.exception.TicketNotClaimableException if the
+   *     ticket does not exist, is not RECEIVED or was claimed concurrently
    */
   boolean startPreparation(String ticketId, String chefId);
 
@@ -4,6 +4,7 @@ import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
 import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /** Output port for kitchen ticket repository operations */
@@ -17,6 +18,43 @@ public interface KitchenTicketRepositoryPort {
    */
   KitchenTicket save(KitchenTicket kitchenTicket);
 
+  /**
+   * Insert a kitchen ticket unless one already exists for the same order
+   *
+   * @param kitchenTicket the ticket to insert
+   * @return the ticket stored for the order; it has a different ID than {@code kitchenTicket} if
+   *     the order already had a ticket
+   */
+  KitchenTicket insertIfAbsent(KitchenTicket kitchenTicket);
+
+  /**
+   * Insert new kitchen tickets in a single bulk write, skipping orders that already have a ticket
+   *
+   * @param kitchenTickets the tickets to insert
+   * @return the tickets that were actually inserted
+   */
+  List<KitchenTicket> insertAllIfAbsent(List<KitchenTicket> kitchenTickets);
+
+  /**
+   * Write the status, assignment, timestamps and item preparation flags of a ticket with a single
+   * targeted update. The update only applies if the stored ticket still has the version the
+   * ticket was read with.
+   *
+   * @param kitchenTicket the ticket holding the new state
+   * @return true if the ticket was updated, false if it was changed or deleted in the meantime
+   */
+  boolean updateState(KitchenTicket kitchenTicket);
+
+  /**
+   * Mark the items of one product as prepared, together with the status and timestamps of the
+   * ticket, with a single targeted update guarded by the version the ticket was read with
+   *
+   * @param kitchenTicket the ticket holding the new state
+   * @param productId the ID of the prepared product
+   * @return true if the ticket was updated, false if it was changed or deleted in the meantime
+   */
+  boolean updateItemPrepared(KitchenTicket kitchenTicket, String productId);
+
   /**
    * Find a kitchen ticket by its ID
    *
@@ -70,4 +108,11 @@ public interface KitchenTicketRepositoryPort {
    * @return the count of tickets with the specified status
    */
   long countByStatus(PrepStatus status);
+
+  /**
+   * Count tickets for every status in a single query
+   *
+   * @return the count of tickets per status; statuses without tickets are absent
+   */
+  Map<PrepStatus, Long> countAllByStatus();
 }
@@ -1,6 +1,7 @@
 package gz.dmndev.restaurant.kitchen.application.service;
 
 import gz.dmndev.restaurant.kitchen.application.exception.KitchenApplicationException;
+import gz.dmndev.restaurant.kitchen.application.exception.TicketNotClaimableException;
 import gz.dmndev.restaurant.kitchen.application.port.in.CreateTicketUseCase;
 import gz.dmndev.restaurant.kitchen.application.port.in.GetKitchenTicketUseCase;
 import gz.dmndev.restaurant.kitchen.application.port.in.UpdateTicketStatusUseCase;
@@ -12,6 +13,7 @@ import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
 import gz.dmndev.restaurant.kitchen.domain.model.TicketItem;
 import gz.dmndev.restaurant.kitchen.domain.service.KitchenDomainService;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
@@ -33,39 +35,24 @@ public class KitchenApplicationService implements
     private final KitchenDomainService kitchenDomainService;
     private final KitchenTicketRepositoryPort kitchenTicketRepository;
     private final KitchenEventPublisherPort kitchenEventPublisher;
+    private final KitchenDispatchQueue kitchenDispatchQueue;
 
     @Override
     @Transactional
     public String createTicket(CreateTicketCommand command) {
         log.info("Creating kitchen ticket for order: {}", command.orderId());
 
-        // Map command items to domain items
-        List<TicketItem> items = command.items().stream()
-                .map(item -> TicketItem.builder()
-                        .productId(item.productId())
-                        .productName(item.productName())
-                        .quantity(item.quantity())
-                        .specialInstructions(item.specialInstructions())
-                        .build())
-                .collect(Collectors.toList());
-
         try {
-            // Create new ticket using domain service
-            KitchenTicket ticket = kitchenDomainService.createTicket(
-                    command.orderId(),
-                    command.customerId(),
-                    command.customerName(),
-                    items,
-                    command.notes()
-            );
-
-            // Set priority if provided
-            if (command.priority() != null && command.priority() > 0) {
-                ticket.setPriority(command.priority());
+            KitchenTicket ticket = toNewTicket(command);
+
+            // Redelivered events find the ticket created the first time
+            KitchenTicket savedTicket = kitchenTicketRepository.insertIfAbsent(ticket);
+            if (!savedTicket.getId().equals(ticket.getId())) {
+                log.debug("Kitchen ticket already exists for order: {}", command.orderId());
+                return savedTicket.getId();
             }
 
-            // Save ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(ticket);
+            kitchenDispatchQueue.add(savedTicket);
 
             // Publish event
             kitchenEventPublisher.publishTicketCreatedEvent(savedTicket);
@@ -78,6 +65,31 @@ public class KitchenApplicationService implements
         }
     }
 
+    @Override
+    @Transactional
+    public List<String> createTickets(List<CreateTicketCommand> commands) {
+        log.info("Creating {} kitchen tickets", commands.size());
+
+        try {
+            List<KitchenTicket> tickets = commands.stream()
+                    .map(this::toNewTicket)
+                    .collect(Collectors.toList());
+
+            // One bulk insert for the whole batch
+            List<KitchenTicket> savedTickets = kitchenTicketRepository.insertAllIfAbsent(tickets);
+
+            savedTickets.forEach(kitchenDispatchQueue::add);
+            savedTickets.forEach(kitchenEventPublisher::publishTicketCreatedEvent);
+
+            return savedTickets.stream()
+                    .map(KitchenTicket::getId)
+                    .collect(Collectors.toList());
+        } catch (KitchenDomainException e) {
+            log.error("Failed to create kitchen tickets: {}", e.getMessage());
+            throw new KitchenApplicationException("Failed to create kitchen tickets", e);
+        }
+    }
+
     @Override
     @Transactional
     public boolean updateTicketStatus(UpdateTicketStatusCommand command) {
@@ -100,21 +112,26 @@ public class KitchenApplicationService implements
                 updatedTicket.assignTo(command.chefId());
             }
 
-            // Save updated ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(updatedTicket);
+            // Write only the state that changed
+            if (!kitchenTicketRepository.updateState(updatedTicket)) {
+                throw new KitchenApplicationException("Kitchen ticket was modified concurrently: " + command.ticketId());
+            }
+            if (updatedTicket.getStatus() != PrepStatus.RECEIVED) {
+                kitchenDispatchQueue.remove(updatedTicket.getId());
+            }
 
             // Publish event
-            kitchenEventPublisher.publishTicketStatusUpdatedEvent(savedTicket, oldStatus, command.newStatus());
+            kitchenEventPublisher.publishTicketStatusUpdatedEvent(updatedTicket, oldStatus, command.newStatus());
 
             // Publish specific events based on new status
             if (command.newStatus() == PrepStatus.READY) {
-                kitchenEventPublisher.publishOrderReadyEvent(savedTicket);
+                kitchenEventPublisher.publishOrderReadyEvent(updatedTicket);
             } else if (command.newStatus() == PrepStatus.CANCELLED) {
-                kitchenEventPublisher.publishOrderCancelledEvent(savedTicket);
+                kitchenEventPublisher.publishOrderCancelledEvent(updatedTicket);
             }
 
             log.info("Kitchen ticket status updated: {} from {} to {}",
-                    savedTicket.getId(), oldStatus, savedTicket.getStatus());
+                    updatedTicket.getId(), oldStatus, updatedTicket.getStatus());
             return true;
         } catch (Exception e) {
             log.error("Failed to update kitchen ticket status: {}", e.getMessage());
@@ -135,16 +152,18 @@ public class KitchenApplicationService implements
             // Mark item as prepared
             KitchenTicket updatedTicket = kitchenDomainService.markItemAsPrepared(ticket, productId);
 
-            // Save updated ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(updatedTicket);
+            // Write only the item flags and state that changed
+            if (!kitchenTicketRepository.updateItemPrepared(updatedTicket, productId)) {
+                throw new KitchenApplicationException("Kitchen ticket was modified concurrently: " + ticketId);
+            }
 
             // If status changed to READY, publish order ready event
-            if (savedTicket.getStatus() == PrepStatus.READY) {
-                kitchenEventPublisher.publishOrderReadyEvent(savedTicket);
+            if (updatedTicket.getStatus() == PrepStatus.READY) {
+                kitchenEventPublisher.publishOrderReadyEvent(updatedTicket);
             }
 
             log.info("Item marked as prepared: ticket={}, product={}, progress={}%",
-                    ticketId, productId, savedTicket.getPreparationProgress());
+                    ticketId, productId, updatedTicket.getPreparationProgress());
             return true;
         } catch (Exception e) {
             log.error("Failed to mark item as prepared: {}", e.getMessage());
@@ -160,20 +179,30 @@ public class KitchenApplicationService implements
         try {
             // Find ticket
             KitchenTicket ticket = kitchenTicketRepository.findById(ticketId)
-                    .orElseThrow(() -> new KitchenApplicationException("Kitchen ticket not found with ID: " + ticketId));
+                    .orElseThrow(() -> new TicketNotClaimableException("Kitchen ticket not found with ID: " + ticketId));
+            if (ticket.getStatus() != PrepStatus.RECEIVED) {
+                throw new TicketNotClaimableException(
+                        "Kitchen ticket " + ticketId + " is " + ticket.getStatus() + ", not RECEIVED");
+            }
 
             // Start preparation
             KitchenTicket updatedTicket = kitchenDomainService.startPreparation(ticket, chefId);
 
-            // Save updated ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(updatedTicket);
+            // Write only the state that changed
+            if (!kitchenTicketRepository.updateState(updatedTicket)) {
+                throw new TicketNotClaimableException("Kitchen ticket was modified concurrently: " + ticketId);
+            }
+            kitchenDispatchQueue.remove(ticketId);
 
             // Publish status updated event
             kitchenEventPublisher.publishTicketStatusUpdatedEvent(
-                    savedTicket, PrepStatus.RECEIVED, PrepStatus.IN_PROGRESS);
+                    updatedTicket, PrepStatus.RECEIVED, PrepStatus.IN_PROGRESS);
 
             log.info("Preparation started: ticket={}, chef={}", ticketId, chefId);
             return true;
+        } catch (TicketNotClaimableException e) {
+            log.info("Cannot start preparation: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("Failed to start preparation: {}", e.getMessage());
             throw new KitchenApplicationException("Failed to start preparation", e);
@@ -193,13 +222,15 @@ public class KitchenApplicationService implements
             // Complete preparation
             KitchenTicket updatedTicket = kitchenDomainService.completePreparation(ticket);
 
-            // Save updated ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(updatedTicket);
+            // Write only the state that changed
+            if (!kitchenTicketRepository.updateState(updatedTicket)) {
+                throw new KitchenApplicationException("Kitchen ticket was modified concurrently: " + ticketId);
+            }
 
             // Publish events
             kitchenEventPublisher.publishTicketStatusUpdatedEvent(
-                    savedTicket, PrepStatus.IN_PROGRESS, PrepStatus.READY);
-            kitchenEventPublisher.publishOrderReadyEvent(savedTicket);
+                    updatedTicket, PrepStatus.IN_PROGRESS, PrepStatus.READY);
+            kitchenEventPublisher.publishOrderReadyEvent(updatedTicket);
 
             log.info("Preparation completed: ticket={}", ticketId);
             return true;
@@ -225,13 +256,16 @@ public class KitchenApplicationService implements
             // Cancel ticket
             KitchenTicket updatedTicket = kitchenDomainService.cancelTicket(ticket);
 
-            // Save updated ticket
-            KitchenTicket savedTicket = kitchenTicketRepository.save(updatedTicket);
+            // Write only the state that changed
+            if (!kitchenTicketRepository.updateState(updatedTicket)) {
+                throw new KitchenApplicationException("Kitchen ticket was modified concurrently: " + ticketId);
+            }
+            kitchenDispatchQueue.remove(ticketId);
 
             // Publish events
             kitchenEventPublisher.publishTicketStatusUpdatedEvent(
-                    savedTicket, oldStatus, PrepStatus.CANCELLED);
-            kitchenEventPublisher.publishOrderCancelledEvent(savedTicket);
+                    updatedTicket, oldStatus, PrepStatus.CANCELLED);
+            kitchenEventPublisher.publishOrderCancelledEvent(updatedTicket);
 
             log.info("Ticket cancelled: {}", ticketId);
             return true;
@@ -297,16 +331,52 @@ public class KitchenApplicationService implements
     public KitchenStatusSummary getStatusSummary() {
         log.info("Getting kitchen status summary");
 
+        Map<PrepStatus, Long> counts = kitchenTicketRepository.countAllByStatus();
+
         return new KitchenStatusSummary(
-                kitchenTicketRepository.countByStatus(PrepStatus.RECEIVED),
-                kitchenTicketRepository.countByStatus(PrepStatus.IN_PROGRESS),
-                kitchenTicketRepository.countByStatus(PrepStatus.READY),
-                kitchenTicketRepository.countByStatus(PrepStatus.DELIVERED),
-                kitchenTicketRepository.countByStatus(PrepStatus.CANCELLED),
-                kitchenTicketRepository.findAll().size()
+                counts.getOrDefault(PrepStatus.RECEIVED, 0L),
+                counts.getOrDefault(PrepStatus.IN_PROGRESS, 0L),
+                counts.getOrDefault(PrepStatus.READY, 0L),
+                counts.getOrDefault(PrepStatus.DELIVERED, 0L),
+                counts.getOrDefault(PrepStatus.CANCELLED, 0L),
+                counts.values().stream().mapToLong(Long::longValue).sum()
         );
     }
 
+    /**
+     * Build a new domain ticket from a create command
+     *
+     * @param command the command with ticket details
+     * @return the new, not yet persisted ticket
+     */
+    private KitchenTicket toNewTicket(CreateTicketCommand command) {
+        // Map command items to domain items
+        List<TicketItem> items = command.items().stream()
+                .map(item -> TicketItem.builder()
+                        .productId(item.productId())
+                        .productName(item.productName())
+                        .quantity(item.quantity())
+                        .specialInstructions(item.specialInstructions())
+                        .build())
+                .collect(Collectors.toList());
+
+        // Create new ticket using domain service
+        KitchenTicket ticket = kitchenDomainService.createTicket(
+                command.orderId(),
+                command.customerId(),
+                command.customerName(),
+                items,
+                command.notes()
+        );
+
+        // Set priority if provided
+        if (command.priority() != null && command.priority() > 0) {
+            ticket.setPriority(command.priority());
+        }
+
+        return ticket;
+    }
+
     /**
      * Map a domain KitchenTicket to a KitchenTicketDto
      *
@@ -0,0 +1,114 @@
+package gz.dmndev.restaurant.kitchen.application.service;
+
+import gz.dmndev.restaurant.kitchen.application.port.out.KitchenTicketRepositoryPort;
+import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
+import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Tickets waiting in {@link PrepStatus#RECEIVED}, ordered by priority and then by age. The queue
+ * is rebuilt from the store on startup and kept current by the application service as tickets are
+ * created and leave the waiting state.
+ *
+ * <p>The queue lives in the memory of each instance and only sees the tickets created and claimed
+ * through that instance, plus whatever was waiting when it started. With several instances a
+ * ticket may be queued on more than one of them; the conditional status update in
+ * {@link KitchenApplicationService#startPreparation} ensures it is still claimed only once.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class KitchenDispatchQueue {
+
+    private static final Comparator<QueuedTicket> DISPATCH_ORDER = Comparator
+            .comparingInt(QueuedTicket::priority).reversed()
+            .thenComparing(QueuedTicket::createdAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QueuedTicket::ticketId);
+
+    private final KitchenTicketRepositoryPort kitchenTicketRepository;
+
+    private final NavigableSet<QueuedTicket> queue = new ConcurrentSkipListSet<>(DISPATCH_ORDER);
+    private final Map<String, QueuedTicket> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Load the waiting tickets from the store once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        var waitingTickets = kitchenTicketRepository.findByStatus(PrepStatus.RECEIVED);
+        waitingTickets.forEach(this::add);
+        log.info("Kitchen dispatch queue loaded with {} waiting tickets", waitingTickets.size());
+    }
+
+    /**
+     * Add a ticket to the queue if it is waiting and not queued yet
+     *
+     * @param ticket the ticket to add
+     */
+    public void add(KitchenTicket ticket) {
+        if (ticket.getStatus() != PrepStatus.RECEIVED) {
+            return;
+        }
+        requeue(new QueuedTicket(ticket.getId(), ticket.getPriority(), ticket.getCreatedAt()));
+    }
+
+    /**
+     * Put a ticket taken off the queue back in its place, if it is not queued again already
+     *
+     * @param entry the ticket returned by {@link #poll()}
+     */
+    public void requeue(QueuedTicket entry) {
+        if (entries.putIfAbsent(entry.ticketId(), entry) == null) {
+            queue.add(entry);
+        }
+    }
+
+    /**
+     * Remove a ticket from the queue, if present
+     *
+     * @param ticketId the ID of the ticket
+     */
+    public void remove(String ticketId) {
+        var entry = entries.remove(ticketId);
+        if (entry != null) {
+            queue.remove(entry);
+        }
+    }
+
+    /**
+     * Take the most urgent ticket off the queue. Concurrent callers never receive the same ticket.
+     *
+     * @return the ticket, or empty if the queue is empty
+     */
+    public Optional<QueuedTicket> poll() {
+        var entry = queue.pollFirst();
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entries.remove(entry.ticketId(), entry);
+        return Optional.of(entry);
+    }
+
+    /**
+     * @return the number of queued tickets
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * A waiting ticket with the keys it is ordered by
+     */
+    public record QueuedTicket(String ticketId, int priority, Instant createdAt) { }
+}
@@ -0,0 +1,55 @@
+package gz.dmndev.restaurant.kitchen.application.service;
+
+import gz.dmndev.restaurant.kitchen.application.exception.KitchenApplicationException;
+import gz.dmndev.restaurant.kitchen.application.exception.TicketNotClaimableException;
+import gz.dmndev.restaurant.kitchen.application.port.in.DispatchTicketUseCase;
+import gz.dmndev.restaurant.kitchen.application.port.in.UpdateTicketStatusUseCase;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service handing out queued kitchen tickets to chefs
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class KitchenDispatchService implements DispatchTicketUseCase {
+
+    private final KitchenDispatchQueue kitchenDispatchQueue;
+    private final UpdateTicketStatusUseCase updateTicketStatusUseCase;
+
+    @Override
+    public Optional<String> pollNextTicket(String chefId) {
+        if (chefId == null || chefId.isBlank()) {
+            throw new KitchenApplicationException("Chef ID is required to claim a ticket");
+        }
+
+        Optional<KitchenDispatchQueue.QueuedTicket> next;
+        while ((next = kitchenDispatchQueue.poll()).isPresent()) {
+            var ticket = next.get();
+            try {
+                updateTicketStatusUseCase.startPreparation(ticket.ticketId(), chefId);
+                log.info("Ticket {} dispatched to chef {}", ticket.ticketId(), chefId);
+                return Optional.of(ticket.ticketId());
+            } catch (TicketNotClaimableException e) {
+                // Started, cancelled or claimed elsewhere since it was queued; try the next one
+                log.debug("Skipping ticket {} that can no longer be claimed: {}",
+                        ticket.ticketId(), e.getMessage());
+            } catch (RuntimeException e) {
+                // Not claimed, or claimed but not fully processed; either way the chef does not get
+                // a second ticket. A ticket that did leave RECEIVED is skipped when polled again.
+                kitchenDispatchQueue.requeue(ticket);
+                throw e;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    @Override
+    public int countWaitingTickets() {
+        return kitchenDispatchQueue.size();
+    }
+}
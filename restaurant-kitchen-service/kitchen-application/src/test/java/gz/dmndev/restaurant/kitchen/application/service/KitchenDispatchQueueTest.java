@@ -0,0 +1,112 @@
+package gz.dmndev.restaurant.kitchen.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.kitchen.application.port.out.KitchenTicketRepositoryPort;
+import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
+import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenDispatchQueueTest {
+
+  private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+  @Mock private KitchenTicketRepositoryPort kitchenTicketRepository;
+
+  private KitchenDispatchQueue queue;
+
+  @BeforeEach
+  void setUp() {
+    queue = new KitchenDispatchQueue(kitchenTicketRepository);
+  }
+
+  @Test
+  void poll_shouldHandOutHighestPriorityFirst_thenOldestFirst() {
+    // Arrange
+    queue.add(ticket("normal-new", 1, NOW.plusSeconds(60)));
+    queue.add(ticket("urgent", 5, NOW.plusSeconds(120)));
+    queue.add(ticket("normal-old", 1, NOW));
+
+    // Act & Assert
+    assertEquals(List.of("urgent", "normal-old", "normal-new"), drain());
+    assertEquals(0, queue.size());
+  }
+
+  @Test
+  void add_shouldIgnoreTicketsNotWaiting_andTicketsAlreadyQueued() {
+    // Arrange
+    KitchenTicket started = ticket("started", 1, NOW);
+    started.setStatus(PrepStatus.IN_PROGRESS);
+
+    // Act
+    queue.add(started);
+    queue.add(ticket("waiting", 1, NOW));
+    queue.add(ticket("waiting", 1, NOW));
+
+    // Assert
+    assertEquals(List.of("waiting"), drain());
+  }
+
+  @Test
+  void requeue_shouldPutTicketBackInItsPlace() {
+    // Arrange
+    queue.add(ticket("first", 1, NOW));
+    queue.add(ticket("second", 1, NOW.plusSeconds(60)));
+    var polled = queue.poll().orElseThrow();
+
+    // Act
+    queue.requeue(polled);
+
+    // Assert
+    assertEquals(List.of("first", "second"), drain());
+  }
+
+  @Test
+  void remove_shouldTakeTicketOffTheQueue() {
+    // Arrange
+    queue.add(ticket("first", 1, NOW));
+    queue.add(ticket("second", 1, NOW.plusSeconds(60)));
+
+    // Act
+    queue.remove("first");
+
+    // Assert
+    assertEquals(List.of("second"), drain());
+  }
+
+  @Test
+  void rebuild_shouldLoadWaitingTicketsFromStore() {
+    // Arrange
+    when(kitchenTicketRepository.findByStatus(PrepStatus.RECEIVED))
+        .thenReturn(List.of(ticket("stored", 1, NOW)));
+
+    // Act
+    queue.rebuild();
+
+    // Assert
+    assertEquals(List.of("stored"), drain());
+  }
+
+  private List<String> drain() {
+    List<String> ticketIds = new ArrayList<>();
+    Optional<KitchenDispatchQueue.QueuedTicket> next;
+    while ((next = queue.poll()).isPresent()) {
+      ticketIds.add(next.get().ticketId());
+    }
+    return ticketIds;
+  }
+
+  static KitchenTicket ticket(String id, int priority, Instant createdAt) {
+    return KitchenTicket.builder().id(id).priority(priority).createdAt(createdAt).build();
+  }
+}
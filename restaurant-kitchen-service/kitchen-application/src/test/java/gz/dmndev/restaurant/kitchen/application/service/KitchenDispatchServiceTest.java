@@ -0,0 +1,98 @@
+package gz.dmndev.restaurant.kitchen.application.service;
+
+import static gz.dmndev.restaurant.kitchen.application.service.KitchenDispatchQueueTest.ticket;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.kitchen.application.exception.KitchenApplicationException;
+import gz.dmndev.restaurant.kitchen.application.exception.TicketNotClaimableException;
+import gz.dmndev.restaurant.kitchen.application.port.in.UpdateTicketStatusUseCase;
+import gz.dmndev.restaurant.kitchen.application.port.out.KitchenTicketRepositoryPort;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenDispatchServiceTest {
+
+  private static final Instant NOW = Instant.parse("2025-05-01T12:00:00Z");
+
+  @Mock private KitchenTicketRepositoryPort kitchenTicketRepository;
+
+  @Mock private UpdateTicketStatusUseCase updateTicketStatusUseCase;
+
+  private KitchenDispatchQueue queue;
+  private KitchenDispatchService dispatchService;
+
+  @BeforeEach
+  void setUp() {
+    queue = new KitchenDispatchQueue(kitchenTicketRepository);
+    dispatchService = new KitchenDispatchService(queue, updateTicketStatusUseCase);
+    queue.add(ticket("urgent", 5, NOW.plusSeconds(60)));
+    queue.add(ticket("normal", 1, NOW));
+  }
+
+  @Test
+  void pollNextTicket_shouldClaimMostUrgentTicket() {
+    // Act
+    Optional<String> result = dispatchService.pollNextTicket("chef-1");
+
+    // Assert
+    assertEquals(Optional.of("urgent"), result);
+    verify(updateTicketStatusUseCase).startPreparation("urgent", "chef-1");
+    assertEquals(1, dispatchService.countWaitingTickets());
+  }
+
+  @Test
+  void pollNextTicket_shouldSkipTicketClaimedElsewhere() {
+    // Arrange
+    when(updateTicketStatusUseCase.startPreparation("urgent", "chef-1"))
+        .thenThrow(new TicketNotClaimableException("Kitchen ticket urgent is IN_PROGRESS"));
+
+    // Act
+    Optional<String> result = dispatchService.pollNextTicket("chef-1");
+
+    // Assert
+    assertEquals(Optional.of("normal"), result);
+    assertEquals(0, dispatchService.countWaitingTickets());
+  }
+
+  @Test
+  void pollNextTicket_shouldRequeueTicketAndRethrow_whenClaimFails() {
+    // Arrange
+    KitchenApplicationException failure =
+        new KitchenApplicationException("Failed to start preparation");
+    when(updateTicketStatusUseCase.startPreparation("urgent", "chef-1")).thenThrow(failure);
+
+    // Act & Assert
+    KitchenApplicationException thrown =
+        assertThrows(
+            KitchenApplicationException.class, () -> dispatchService.pollNextTicket("chef-1"));
+    assertSame(failure, thrown);
+    verify(updateTicketStatusUseCase, never()).startPreparation(eq("normal"), anyString());
+    assertEquals(2, dispatchService.countWaitingTickets());
+    assertEquals("urgent", queue.poll().orElseThrow().ticketId());
+  }
+
+  @Test
+  void pollNextTicket_shouldReturnEmpty_whenNoTicketIsWaiting() {
+    // Arrange
+    queue.remove("urgent");
+    queue.remove("normal");
+
+    // Act & Assert
+    assertTrue(dispatchService.pollNextTicket("chef-1").isEmpty());
+    verifyNoInteractions(updateTicketStatusUseCase);
+  }
+
+  @Test
+  void pollNextTicket_shouldRejectMissingChef() {
+    // Act & Assert
+    assertThrows(KitchenApplicationException.class, () -> dispatchService.pollNextTicket(" "));
+    assertEquals(2, dispatchService.countWaitingTickets());
+  }
+}
@@ -93,6 +93,11 @@ public class KitchenTicket {
      */
     private String assignedTo;
 
+    /**
+     * Version of the stored ticket this instance was read from, used to detect concurrent changes
+     */
+    private Long version;
+
     /**
      * Update the status of this ticket
      *
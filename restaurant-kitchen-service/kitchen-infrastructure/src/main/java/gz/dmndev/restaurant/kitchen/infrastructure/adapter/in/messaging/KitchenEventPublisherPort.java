@@ -1,4 +0,0 @@
-package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.messaging;
-
-public class KitchenEventPublisherPort {
-}
@@ -1,12 +1,21 @@
 package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.messaging;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gz.dmndev.restaurant.kitchen.application.port.in.CreateTicketUseCase;
 import gz.dmndev.restaurant.kitchen.application.port.in.GetKitchenTicketUseCase;
 import gz.dmndev.restaurant.kitchen.application.port.in.UpdateTicketStatusUseCase;
 import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
 import gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.messaging.event.OrderCreatedEvent;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,89 +31,105 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class OrderEventConsumer {
 
+    static final String ORDER_CREATED = "ORDER_CREATED";
+    static final String ORDER_CANCELLED = "ORDER_CANCELLED";
+
     private final CreateTicketUseCase createTicketUseCase;
     private final UpdateTicketStatusUseCase updateTicketStatusUseCase;
     private final GetKitchenTicketUseCase getKitchenTicketUseCase;
+    private final RecentEventIds recentEventIds;
     private final ObjectMapper objectMapper;
 
     /**
-     * Handle order-created events
+     * Handle a poll worth of order events. Each record is parsed once and dispatched on its
+     * {@code eventType}; the tickets for all created orders are then written together. Events
+     * processed recently, such as those redelivered after a rebalance, are skipped.
      *
-     * @param payload the event payload
+     * @param payloads the event payloads, in partition order
      */
     @KafkaListener(
             topics = "${kitchen.kafka.topics.order-events}",
             groupId = "${kitchen.kafka.consumer.group-id}",
-            filter = "orderCreatedFilter"
+            batch = "true"
     )
-    public void handleOrderCreatedEvent(@Payload String payload) {
-        log.info("Received order-created event");
-        log.debug("Event payload: {}", payload);
-
-        try {
-            OrderCreatedEvent event = objectMapper.readValue(payload, OrderCreatedEvent.class);
-
-            log.info("Processing order-created event for order ID: {}", event.getOrderId());
+    public void handleOrderEvents(@Payload List<String> payloads) {
+        log.debug("Received {} order events", payloads.size());
+
+        List<CreateTicketUseCase.CreateTicketCommand> ticketsToCreate = new ArrayList<>();
+        List<String> createdEventIds = new ArrayList<>();
+        Map<String, String> ordersToCancel = new LinkedHashMap<>();
+        Set<String> batchEventIds = new HashSet<>();
+
+        for (String payload : payloads) {
+            try {
+                JsonNode eventNode = objectMapper.readTree(payload);
+                String eventId = eventNode.path("eventId").asText(null);
+                if (recentEventIds.contains(eventId) || (eventId != null && !batchEventIds.add(eventId))) {
+                    log.debug("Skipping already processed order event {}", eventId);
+                    continue;
+                }
+
+                switch (eventNode.path("eventType").asText()) {
+                    case ORDER_CREATED -> {
+                        ticketsToCreate.add(
+                                toCreateTicketCommand(objectMapper.treeToValue(eventNode, OrderCreatedEvent.class)));
+                        createdEventIds.add(eventId);
+                    }
+                    case ORDER_CANCELLED -> ordersToCancel.put(eventNode.path("orderId").asText(), eventId);
+                    default -> log.debug("Ignoring order event of type {}", eventNode.path("eventType").asText());
+                }
+            } catch (JsonProcessingException e) {
+                log.error("Error deserializing order event: {}", e.getMessage());
+            }
+        }
 
-            // Map event to create ticket command
-            var ticketItems = event.getItems().stream()
-                    .map(item -> new CreateTicketUseCase.CreateTicketItemCommand(
-                            item.getProductId(),
-                            item.getProductName(),
-                            item.getQuantity(),
-                            item.getSpecialInstructions()
-                    ))
-                    .collect(Collectors.toList());
+        // Tickets are created before cancellations are applied, so an order created and cancelled
+        // within the same batch still ends up cancelled
+        if (!ticketsToCreate.isEmpty()) {
+            try {
+                List<String> ticketIds = createTicketUseCase.createTickets(ticketsToCreate);
+                log.info("Created {} kitchen tickets", ticketIds.size());
+                rememberProcessed(createdEventIds);
+            } catch (Exception e) {
+                log.error("Error processing order-created events: {}", e.getMessage());
+            }
+        }
 
-            var command = new CreateTicketUseCase.CreateTicketCommand(
-                    event.getOrderId(),
-                    event.getCustomerId(),
-                    event.getCustomerName(),
-                    ticketItems,
-                    event.getNotes(),
-                    event.getPriority()
-            );
+        ordersToCancel.forEach((orderId, eventId) -> {
+            if (cancelTicketForOrder(orderId)) {
+                rememberProcessed(Collections.singletonList(eventId));
+            }
+        });
+    }
 
-            // Create kitchen ticket
-            String ticketId = createTicketUseCase.createTicket(command);
+    private void rememberProcessed(List<String> eventIds) {
+        recentEventIds.addAll(eventIds.stream().filter(Objects::nonNull).toList());
+    }
 
-            log.info("Created kitchen ticket {} for order {}", ticketId, event.getOrderId());
-        } catch (JsonProcessingException e) {
-            log.error("Error deserializing order-created event: {}", e.getMessage());
-        } catch (Exception e) {
-            log.error("Error processing order-created event: {}", e.getMessage());
-        }
+    private CreateTicketUseCase.CreateTicketCommand toCreateTicketCommand(OrderCreatedEvent event) {
+        var ticketItems = event.getItems().stream()
+                .map(item -> new CreateTicketUseCase.CreateTicketItemCommand(
+                        item.productId(),
+                        item.productName(),
+                        item.quantity(),
+                        null
+                ))
+                .collect(Collectors.toList());
+
+        return new CreateTicketUseCase.CreateTicketCommand(
+                event.getOrderId(),
+                event.getCustomerId(),
+                event.getCustomerName(),
+                ticketItems,
+                event.getNotes(),
+                null
+        );
     }
 
-    /**
-     * Handle order-cancelled events
-     *
-     * @param payload the event payload
-     */
-    @KafkaListener(
-            topics = "${kitchen.kafka.topics.order-events}",
-            groupId = "${kitchen.kafka.consumer.group-id}",
-            filter = "orderCancelledFilter"
-    )
-    public void handleOrderCancelledEvent(@Payload String payload) {
-        log.info("Received order-cancelled event");
-        log.debug("Event payload: {}", payload);
+    private boolean cancelTicketForOrder(String orderId) {
+        log.info("Processing order-cancelled event for order ID: {}", orderId);
 
         try {
-            // Extract order ID and event type from the payload
-            var eventNode = objectMapper.readTree(payload);
-            var eventType = eventNode.path("eventType").asText();
-
-            if (!"ORDER_CANCELLED".equals(eventType)) {
-                log.debug("Ignoring non-cancellation event: {}", eventType);
-                return;
-            }
-
-            var orderId = eventNode.path("orderId").asText();
-
-            log.info("Processing order-cancelled event for order ID: {}", orderId);
-
-            // Find ticket by order ID and cancel it
             getKitchenTicketUseCase.getTicketByOrderId(orderId)
                     .map(ticket -> updateTicketStatusUseCase.updateTicketStatus(
                             new UpdateTicketStatusUseCase.UpdateTicketStatusCommand(
@@ -117,8 +142,10 @@ public class OrderEventConsumer {
                             result -> log.info("Cancelled kitchen ticket for order {}: {}", orderId, result),
                             () -> log.info("No kitchen ticket found for order {}", orderId)
                     );
+            return true;
         } catch (Exception e) {
             log.error("Error processing order-cancelled event: {}", e.getMessage());
+            return false;
         }
     }
-}
\ No newline at end of file
+}
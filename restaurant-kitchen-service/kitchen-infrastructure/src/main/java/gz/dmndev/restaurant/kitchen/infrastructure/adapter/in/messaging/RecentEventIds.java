@@ -0,0 +1,47 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.messaging;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded memory of the most recently processed event IDs. Kafka redelivers the records of a
+ * partition after a rebalance; remembering the last few thousand event IDs lets the consumer drop
+ * those replays before any domain work or database round trip. Once an ID is evicted the
+ * idempotent ticket insert still protects against duplicates.
+ */
+@Component
+public class RecentEventIds {
+
+    private final Map<String, Boolean> seen;
+
+    public RecentEventIds(@Value("${kitchen.kafka.consumer.recent-event-ids:10000}") int capacity) {
+        this.seen = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Check whether an event was already processed
+     *
+     * @param eventId the event ID, may be null for events that carry none
+     * @return true if the event was processed recently
+     */
+    public synchronized boolean contains(String eventId) {
+        return eventId != null && seen.containsKey(eventId);
+    }
+
+    /**
+     * Remember events as processed
+     *
+     * @param eventIds the IDs of the processed events
+     */
+    public synchronized void addAll(Collection<String> eventIds) {
+        eventIds.forEach(eventId -> seen.put(eventId, Boolean.TRUE));
+    }
+}
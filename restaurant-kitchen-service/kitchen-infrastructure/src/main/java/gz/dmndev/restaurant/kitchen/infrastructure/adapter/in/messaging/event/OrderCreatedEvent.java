@@ -1,17 +1,17 @@
 package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.messaging.event;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import gz.dmndev.restaurant.common.messaging.event.BaseEvent;
-import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
 import java.math.BigDecimal;
-import java.time.Instant;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Value;
 
 @EqualsAndHashCode(callSuper = true)
 @Value
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class OrderCreatedEvent extends BaseEvent {
 
   String orderId;
@@ -21,7 +21,8 @@ public class OrderCreatedEvent extends BaseEvent {
   BigDecimal subtotal;
   BigDecimal tax;
   BigDecimal total;
-  PrepStatus status;
+  /** Status of the order in order-service, not a kitchen {@code PrepStatus} */
+  String status;
   String notes;
 
   @JsonCreator
@@ -35,9 +36,8 @@ public class OrderCreatedEvent extends BaseEvent {
           @JsonProperty("subtotal") BigDecimal subtotal,
           @JsonProperty("tax") BigDecimal tax,
           @JsonProperty("total") BigDecimal total,
-          @JsonProperty("status") PrepStatus status,
-          @JsonProperty("notes") String notes,
-          @JsonProperty("createdAt") Instant createdAt
+          @JsonProperty("status") String status,
+          @JsonProperty("notes") String notes
   ) {
     super(eventId, eventType);
     this.orderId = orderId;
@@ -49,9 +49,9 @@ public class OrderCreatedEvent extends BaseEvent {
     this.total = total;
     this.status = status;
     this.notes = notes;
-    this.createdAt = createdAt;
   }
 
+  @JsonIgnoreProperties(ignoreUnknown = true)
   public record OrderItemDto(
           String productId,
           String productName,
@@ -59,4 +59,4 @@ public class OrderCreatedEvent extends BaseEvent {
           BigDecimal unitPrice,
           BigDecimal totalPrice
   ) {}
-}
\ No newline at end of file
+}
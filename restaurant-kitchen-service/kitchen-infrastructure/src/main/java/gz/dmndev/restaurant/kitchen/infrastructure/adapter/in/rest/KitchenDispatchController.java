@@ -0,0 +1,49 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest;
+
+import gz.dmndev.restaurant.kitchen.application.port.in.DispatchTicketUseCase;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest.dto.DispatchResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Hands out waiting kitchen tickets to chefs
+ */
+@RestController
+@RequestMapping("/kitchen/dispatch")
+@RequiredArgsConstructor
+public class KitchenDispatchController {
+
+    private final DispatchTicketUseCase dispatchTicketUseCase;
+
+    /**
+     * Claim the most urgent waiting ticket for a chef and start its preparation
+     *
+     * @param chefId the ID of the chef taking the ticket
+     * @return the claimed ticket, or 204 if no ticket is waiting
+     */
+    @PostMapping("/next")
+    public ResponseEntity<DispatchResponse> claimNextTicket(@RequestParam String chefId) {
+        if (chefId.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return dispatchTicketUseCase.pollNextTicket(chefId)
+                .map(ticketId -> ResponseEntity.ok(
+                        new DispatchResponse(ticketId, dispatchTicketUseCase.countWaitingTickets())))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Count the tickets waiting to be claimed
+     *
+     * @return the number of waiting tickets
+     */
+    @GetMapping("/waiting")
+    public DispatchResponse countWaitingTickets() {
+        return new DispatchResponse(null, dispatchTicketUseCase.countWaitingTickets());
+    }
+}
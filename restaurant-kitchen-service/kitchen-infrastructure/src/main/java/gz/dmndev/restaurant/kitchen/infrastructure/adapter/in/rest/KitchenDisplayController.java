@@ -0,0 +1,40 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest;
+
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Push channel for kitchen display screens
+ */
+@RestController
+@ConditionalOnProperty(name = "kitchen.display.enabled", havingValue = "true", matchIfMissing = true)
+@RequestMapping("/kitchen/display")
+@RequiredArgsConstructor
+public class KitchenDisplayController {
+
+    private final KitchenDisplayFeed kitchenDisplayFeed;
+
+    /**
+     * Stream ticket changes as server-sent events. A station passes the products it prepares to
+     * receive only the tickets and items it works on. Reconnecting clients send the standard
+     * {@code Last-Event-ID} header to receive the changes they missed.
+     *
+     * @param productIds the products prepared at the station, all products if absent
+     * @param lastEventId the ID of the last event the client received
+     * @return the event stream
+     */
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
+            @RequestParam(name = "productId", required = false) Set<String> productIds,
+            @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+        return kitchenDisplayFeed.subscribe(productIds, lastEventId);
+    }
+}
@@ -0,0 +1,406 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.MongoException;
+import com.mongodb.MongoServerException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.OperationType;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest.dto.TicketDelta;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence.document.KitchenTicketDocument;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans out kitchen ticket changes to connected displays. A single change stream cursor tails the
+ * ticket collection, however many displays are connected; each change is turned into a compact
+ * {@link TicketDelta} and handed to every subscriber whose station it concerns.
+ *
+ * <p>Every display has its own bounded queue drained by its own virtual thread, so the change
+ * stream thread never writes to a socket. A display that falls so far behind that its queue
+ * overflows is disconnected; it reconnects and catches up from {@code Last-Event-ID} like any
+ * other display.
+ *
+ * <p>The resume token of every change is used as the SSE event ID. The last few changes are kept
+ * so a display reconnecting with {@code Last-Event-ID} receives what it missed; a display whose
+ * last event is no longer kept gets a {@code reset} event and reloads its tickets. The cursor
+ * itself resumes after the last token when it has to be reopened. If the oplog no longer holds
+ * that token, the cursor restarts from the current time and every display is sent a {@code reset}.
+ *
+ * <p>Change streams require MongoDB to run as a replica set. Against a standalone node, set
+ * {@code kitchen.display.enabled=false} to run the service without the feed.
+ */
+@Component
+@ConditionalOnProperty(name = "kitchen.display.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class KitchenDisplayFeed implements SmartLifecycle {
+
+    static final String TICKET_EVENT = "ticket";
+    static final String RESET_EVENT = "reset";
+
+    // Server error codes: the resume point is gone from the oplog, or the stream cannot resume
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final String NON_RESUMABLE_LABEL = "NonResumableChangeStreamError";
+    // "$changeStream stage is only supported on replica sets"
+    private static final int CHANGE_STREAM_NOT_SUPPORTED = 40573;
+
+    private static final List<String> WATCHED_OPERATIONS = List.of(
+            OperationType.INSERT.getValue(),
+            OperationType.UPDATE.getValue(),
+            OperationType.REPLACE.getValue(),
+            OperationType.DELETE.getValue());
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectMapper objectMapper;
+    private final int replaySize;
+    private final int sendQueueSize;
+    private final Duration emitterTimeout;
+    private final Duration retryDelay;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Deque<Change> recentChanges = new ArrayDeque<>();
+
+    private volatile boolean running;
+    private volatile BsonDocument resumeToken;
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor;
+    private Thread worker;
+
+    public KitchenDisplayFeed(
+            MongoTemplate mongoTemplate,
+            ObjectMapper objectMapper,
+            @Value("${kitchen.display.replay-size:1000}") int replaySize,
+            @Value("${kitchen.display.send-queue-size:256}") int sendQueueSize,
+            @Value("${kitchen.display.emitter-timeout:30m}") Duration emitterTimeout,
+            @Value("${kitchen.display.retry-delay:5s}") Duration retryDelay) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectMapper = objectMapper;
+        this.replaySize = replaySize;
+        this.sendQueueSize = sendQueueSize;
+        this.emitterTimeout = emitterTimeout;
+        this.retryDelay = retryDelay;
+    }
+
+    /**
+     * Register a display
+     *
+     * @param productIds the products prepared at the display's station, all products if empty
+     * @param lastEventId the ID of the last event the display received, if reconnecting
+     * @return the emitter the changes are sent to
+     */
+    public SseEmitter subscribe(Set<String> productIds, String lastEventId) {
+        var emitter = newEmitter();
+        var stationProducts = productIds == null || productIds.isEmpty() ? null : Set.copyOf(productIds);
+
+        // Copying the missed changes and registering under the same lock as publishing keeps
+        // changes from being missed or delivered twice; the sends themselves happen on the
+        // display's own thread
+        Subscriber subscriber;
+        synchronized (recentChanges) {
+            var missed = lastEventId == null ? List.<Outgoing>of() : missedSince(lastEventId);
+            subscriber = new Subscriber(emitter, stationProducts, missed.size() + sendQueueSize);
+            missed.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        }
+
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(e -> subscriber.close());
+        subscriber.start();
+
+        log.debug("Kitchen display subscribed, {} connected", subscribers.size());
+        return emitter;
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(emitterTimeout.toMillis());
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofPlatform().name("kitchen-display-feed").daemon().start(this::tail);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        var current = cursor;
+        if (current != null) {
+            current.close();
+        }
+        subscribers.forEach(Subscriber::close);
+        subscribers.clear();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void tail() {
+        while (running) {
+            try (var changes = openCursor()) {
+                cursor = changes;
+                while (running) {
+                    var change = changes.next();
+                    resumeToken = change.getResumeToken();
+                    publish(resumeToken.toJson(), toDelta(change));
+                }
+            } catch (MongoServerException e) {
+                if (!running) {
+                    return;
+                }
+                if (e.getCode() == CHANGE_STREAM_NOT_SUPPORTED) {
+                    log.error("Kitchen display feed stopped, change streams need MongoDB to run as a"
+                            + " replica set; set kitchen.display.enabled=false to run without the feed: {}",
+                            e.getMessage());
+                    running = false;
+                    return;
+                }
+                if (isHistoryLost(e)) {
+                    log.warn("Kitchen ticket change stream cannot resume, restarting from now: {}",
+                            e.getMessage());
+                    restartFromNow();
+                    continue;
+                }
+                if (!pauseBeforeRetry(e)) {
+                    return;
+                }
+            } catch (MongoException | IllegalStateException e) {
+                if (!running || !pauseBeforeRetry(e)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private boolean pauseBeforeRetry(RuntimeException e) {
+        log.warn("Kitchen ticket change stream interrupted, reopening in {}: {}",
+                retryDelay, e.getMessage());
+        try {
+            Thread.sleep(retryDelay);
+            return true;
+        } catch (InterruptedException interrupted) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static boolean isHistoryLost(MongoServerException e) {
+        return e.getCode() == CHANGE_STREAM_HISTORY_LOST
+                || e.getCode() == CHANGE_STREAM_FATAL_ERROR
+                || e.hasErrorLabel(NON_RESUMABLE_LABEL);
+    }
+
+    /**
+     * Forget the resume token and the kept changes, and tell every display to reload: the changes
+     * made while the stream could not resume are lost
+     */
+    void restartFromNow() {
+        resumeToken = null;
+        synchronized (recentChanges) {
+            recentChanges.clear();
+            for (var subscriber : subscribers) {
+                subscriber.offer(Outgoing.reset());
+            }
+        }
+    }
+
+    private MongoChangeStreamCursor<ChangeStreamDocument<Document>> openCursor() {
+        // Only the fields a display shows are carried over the wire
+        var pipeline = List.of(
+                Aggregates.match(Filters.in("operationType", WATCHED_OPERATIONS)),
+                Aggregates.project(Projections.include(
+                        "operationType",
+                        "documentKey",
+                        "fullDocument.orderId",
+                        "fullDocument.status",
+                        "fullDocument.items.productId",
+                        "fullDocument.items.prepared")));
+
+        var stream = mongoTemplate.getCollection(mongoTemplate.getCollectionName(KitchenTicketDocument.class))
+                .watch(pipeline)
+                .fullDocument(FullDocument.UPDATE_LOOKUP);
+        var token = resumeToken;
+        return (token == null ? stream : stream.resumeAfter(token)).cursor();
+    }
+
+    private TicketDelta toDelta(ChangeStreamDocument<Document> change) {
+        var ticketId = idOf(change.getDocumentKey().get("_id"));
+        var ticket = change.getFullDocument();
+        if (change.getOperationType() == OperationType.DELETE || ticket == null) {
+            return new TicketDelta(ticketId, null, null, null, null, true);
+        }
+
+        var items = ticket.getList("items", Document.class, List.of()).stream()
+                .map(item -> new TicketDelta.ItemDelta(
+                        item.getString("productId"),
+                        item.getBoolean("prepared", false)))
+                .toList();
+        long preparedCount = items.stream().filter(TicketDelta.ItemDelta::prepared).count();
+        int progress = items.isEmpty() ? 0 : (int) ((preparedCount * 100.0) / items.size());
+
+        return new TicketDelta(ticketId, ticket.getString("orderId"), ticket.getString("status"),
+                items, progress, null);
+    }
+
+    void publish(String eventId, TicketDelta delta) {
+        // Displays without a station filter share one serialised payload
+        var change = new Change(eventId, delta, toJson(delta));
+        synchronized (recentChanges) {
+            recentChanges.addLast(change);
+            if (recentChanges.size() > replaySize) {
+                recentChanges.removeFirst();
+            }
+            for (var subscriber : subscribers) {
+                subscriber.offer(Outgoing.of(change));
+            }
+        }
+    }
+
+    private List<Outgoing> missedSince(String lastEventId) {
+        var missed = new ArrayList<Outgoing>();
+        boolean found = false;
+        for (var change : recentChanges) {
+            if (found) {
+                missed.add(Outgoing.of(change));
+            } else {
+                found = change.eventId().equals(lastEventId);
+            }
+        }
+        return found ? missed : List.of(Outgoing.reset());
+    }
+
+    private String toJson(TicketDelta delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Unable to serialize ticket delta", e);
+        }
+    }
+
+    private static String idOf(BsonValue id) {
+        return id.isObjectId() ? id.asObjectId().getValue().toHexString() : id.asString().getValue();
+    }
+
+    /**
+     * A connected display with its send queue and the thread draining it
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> productIds;
+        private final BlockingQueue<Outgoing> queue;
+        private volatile boolean closed;
+        private volatile Thread sender;
+
+        Subscriber(SseEmitter emitter, Set<String> productIds, int capacity) {
+            this.emitter = emitter;
+            this.productIds = productIds;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void start() {
+            sender = Thread.ofVirtual().name("kitchen-display-sender").start(this::drain);
+            if (closed) {
+                sender.interrupt();
+            }
+        }
+
+        /**
+         * Queue an event without blocking; a display whose queue is full is disconnected
+         */
+        void offer(Outgoing outgoing) {
+            if (!closed && !queue.offer(outgoing)) {
+                log.debug("Disconnecting kitchen display that fell {} events behind", queue.size());
+                close();
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            var thread = sender;
+            if (thread != null) {
+                thread.interrupt();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed) {
+                    send(queue.take());
+                }
+                emitter.complete();
+            } catch (InterruptedException e) {
+                emitter.complete();
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping disconnected kitchen display: {}", e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                closed = true;
+                subscribers.remove(this);
+            }
+        }
+
+        private void send(Outgoing outgoing) throws IOException {
+            if (outgoing.change() == null) {
+                emitter.send(SseEmitter.event().name(RESET_EVENT).data(""));
+                return;
+            }
+
+            var change = outgoing.change();
+            var json = change.payload();
+            if (productIds != null) {
+                var stationDelta = change.delta().forProducts(productIds);
+                if (stationDelta == null) {
+                    return;
+                }
+                json = toJson(stationDelta);
+            }
+            emitter.send(SseEmitter.event()
+                    .id(change.eventId())
+                    .name(TICKET_EVENT)
+                    .data(json, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private record Change(String eventId, TicketDelta delta, String payload) { }
+
+    /** A ticket change, or a reset when the change is absent */
+    private record Outgoing(Change change) {
+
+        static Outgoing of(Change change) {
+            return new Outgoing(change);
+        }
+
+        static Outgoing reset() {
+            return new Outgoing(null);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Result of a dispatch request
+ *
+ * @param ticketId the ID of the ticket claimed for the chef, absent when only counting
+ * @param waitingTickets the number of tickets still waiting to be claimed
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record DispatchResponse(String ticketId, int waitingTickets) { }
@@ -0,0 +1,46 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compact change of a kitchen ticket pushed to kitchen displays
+ *
+ * @param ticketId the ID of the ticket
+ * @param orderId the ID of the order, absent for removed tickets
+ * @param status the preparation status, absent for removed tickets
+ * @param items the preparation flags of the ticket items
+ * @param progress the preparation progress in percent
+ * @param removed true if the ticket was deleted
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TicketDelta(
+        String ticketId,
+        String orderId,
+        String status,
+        List<ItemDelta> items,
+        Integer progress,
+        Boolean removed) {
+
+    /** Preparation flag of one ticket item */
+    public record ItemDelta(String productId, boolean prepared) { }
+
+    /**
+     * Restrict the delta to the items a station prepares
+     *
+     * @param productIds the products prepared at the station
+     * @return the delta with only those items, or null if the ticket has none of them
+     */
+    public TicketDelta forProducts(Set<String> productIds) {
+        if (removed != null) {
+            return this;
+        }
+        var stationItems = items.stream()
+                .filter(item -> productIds.contains(item.productId()))
+                .toList();
+        return stationItems.isEmpty()
+                ? null
+                : new TicketDelta(ticketId, orderId, status, stationItems, progress, null);
+    }
+}
@@ -35,6 +35,7 @@ public class KitchenTicketPersistenceMapper {
         .preparationStartedAt(ticket.getPreparationStartedAt())
         .preparationCompletedAt(ticket.getPreparationCompletedAt())
         .assignedTo(ticket.getAssignedTo())
+        .version(ticket.getVersion())
         .build();
   }
 
@@ -63,6 +64,7 @@ public class KitchenTicketPersistenceMapper {
         .preparationStartedAt(document.getPreparationStartedAt())
         .preparationCompletedAt(document.getPreparationCompletedAt())
         .assignedTo(document.getAssignedTo())
+        .version(document.getVersion())
         .build();
   }
 
@@ -0,0 +1,136 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.common.messaging.serialization.EventJsonMapper;
+import gz.dmndev.restaurant.kitchen.application.port.out.KitchenEventPublisherPort;
+import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
+import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging.dto.KitchenTicketEvent;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging.dto.OrderPreparedEvent;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes kitchen events to Kafka. Every event is serialised to bytes once, with the shared event
+ * mapper, however many topics it goes to; batching and compression are left to the producer.
+ */
+@Component
+@Slf4j
+public class KitchenEventPublisherAdapter implements KitchenEventPublisherPort {
+
+    static final String TICKET_CREATED = "TICKET_CREATED";
+    static final String TICKET_STATUS_UPDATED = "TICKET_STATUS_UPDATED";
+    static final String TICKET_CANCELLED = "TICKET_CANCELLED";
+
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary payloadSize;
+    private final String kitchenEventsTopic;
+    private final String orderEventsTopic;
+
+    public KitchenEventPublisherAdapter(
+            KafkaTemplate<String, byte[]> kitchenEventsKafkaTemplate,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${kitchen.kafka.topics.kitchen-events:" + KafkaTopics.KITCHEN_EVENTS + "}")
+                    String kitchenEventsTopic,
+            @Value("${kitchen.kafka.topics.order-events:" + KafkaTopics.ORDER_EVENTS + "}")
+                    String orderEventsTopic) {
+        this.kafkaTemplate = kitchenEventsKafkaTemplate;
+        this.meterRegistry = meterRegistry.getIfAvailable(SimpleMeterRegistry::new);
+        this.payloadSize = DistributionSummary.builder("kitchen.events.payload")
+                .description("Size of serialised kitchen events")
+                .baseUnit("bytes")
+                .register(this.meterRegistry);
+        this.kitchenEventsTopic = kitchenEventsTopic;
+        this.orderEventsTopic = orderEventsTopic;
+    }
+
+    @Override
+    public void publishTicketCreatedEvent(KitchenTicket kitchenTicket) {
+        publish(kitchenTicket.getOrderId(), toEvent(TICKET_CREATED, kitchenTicket, null), kitchenEventsTopic);
+    }
+
+    @Override
+    public void publishTicketStatusUpdatedEvent(
+            KitchenTicket kitchenTicket, PrepStatus oldStatus, PrepStatus newStatus) {
+        publish(kitchenTicket.getOrderId(),
+                toEvent(TICKET_STATUS_UPDATED, kitchenTicket, oldStatus), kitchenEventsTopic);
+    }
+
+    @Override
+    public void publishOrderReadyEvent(KitchenTicket kitchenTicket) {
+        var event = OrderPreparedEvent.builder()
+                .orderId(kitchenTicket.getOrderId())
+                .kitchenTicketId(kitchenTicket.getId())
+                .customerId(kitchenTicket.getCustomerId())
+                .customerName(kitchenTicket.getCustomerName())
+                .preparedBy(kitchenTicket.getAssignedTo())
+                .preparedAt(kitchenTicket.getPreparationCompletedAt() != null
+                        ? kitchenTicket.getPreparationCompletedAt()
+                        : Instant.now())
+                .notes(kitchenTicket.getNotes())
+                .build();
+
+        // Published to both topics for different consumers, from the same serialised payload
+        publish(kitchenTicket.getOrderId(), event, kitchenEventsTopic, orderEventsTopic);
+    }
+
+    @Override
+    public void publishOrderCancelledEvent(KitchenTicket kitchenTicket) {
+        publish(kitchenTicket.getOrderId(), toEvent(TICKET_CANCELLED, kitchenTicket, null), kitchenEventsTopic);
+    }
+
+    private KitchenTicketEvent toEvent(String eventType, KitchenTicket kitchenTicket, PrepStatus previousStatus) {
+        return new KitchenTicketEvent(
+                UUID.randomUUID().toString(),
+                eventType,
+                kitchenTicket.getId(),
+                kitchenTicket.getOrderId(),
+                kitchenTicket.getCustomerId(),
+                kitchenTicket.getStatus().name(),
+                previousStatus != null ? previousStatus.name() : null,
+                kitchenTicket.getAssignedTo(),
+                kitchenTicket.getPriority(),
+                Instant.now()
+        );
+    }
+
+    private void publish(String key, Object event, String... topics) {
+        byte[] payload;
+        try {
+            payload = EventJsonMapper.writerFor(event.getClass()).writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            log.error("Error serializing kitchen event for order {}: {}", key, e.getMessage());
+            return;
+        }
+        payloadSize.record(payload.length);
+
+        for (String topic : topics) {
+            var sample = Timer.start(meterRegistry);
+            kafkaTemplate.send(topic, key, payload).whenComplete((result, ex) -> {
+                sample.stop(Timer.builder("kitchen.events.send")
+                        .description("Time from send to broker acknowledgement of kitchen events")
+                        .tag("topic", topic)
+                        .tag("outcome", ex == null ? "success" : "failure")
+                        .register(meterRegistry));
+                if (ex != null) {
+                    log.error("Failed to publish kitchen event to topic {} for order {}: {}",
+                            topic, key, ex.getMessage());
+                } else {
+                    log.debug("Kitchen event published to {}-{}@{}", topic,
+                            result.getRecordMetadata().partition(), result.getRecordMetadata().offset());
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.time.Instant;
+
+/**
+ * DTO representing a kitchen ticket event to be published to Kafka
+ *
+ * @param eventId ID of the event
+ * @param eventType type of the event
+ * @param ticketId ID of the kitchen ticket
+ * @param orderId ID of the order
+ * @param customerId ID of the customer
+ * @param status status of the ticket after the change
+ * @param previousStatus status of the ticket before the change, for status updates
+ * @param assignedTo chef assigned to the ticket
+ * @param priority priority of the ticket
+ * @param occurredAt timestamp of the change
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record KitchenTicketEvent(
+        String eventId,
+        String eventType,
+        String ticketId,
+        String orderId,
+        String customerId,
+        String status,
+        String previousStatus,
+        String assignedTo,
+        int priority,
+        @JsonFormat(shape = JsonFormat.Shape.STRING) Instant occurredAt) { }
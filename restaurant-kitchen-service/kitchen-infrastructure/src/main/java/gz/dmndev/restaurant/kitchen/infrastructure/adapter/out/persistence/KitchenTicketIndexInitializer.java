@@ -0,0 +1,35 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence;
+
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence.document.KitchenTicketDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the indexes declared on {@link KitchenTicketDocument} at startup.
+ *
+ * <p>Spring Data leaves automatic index creation off by default, and idempotent ticket creation
+ * depends on the unique index on {@code orderId}: without it two concurrent upserts for the same
+ * order can both insert. The indexes are therefore ensured explicitly, before any listener starts
+ * consuming order events.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenTicketIndexInitializer implements InitializingBean {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        IndexOperations indexOperations = mongoTemplate.indexOps(KitchenTicketDocument.class);
+        var resolver = new MongoPersistentEntityIndexResolver(
+                mongoTemplate.getConverter().getMappingContext());
+        resolver.resolveIndexFor(KitchenTicketDocument.class).forEach(indexOperations::ensureIndex);
+        log.info("Ensured indexes on {}", mongoTemplate.getCollectionName(KitchenTicketDocument.class));
+    }
+}
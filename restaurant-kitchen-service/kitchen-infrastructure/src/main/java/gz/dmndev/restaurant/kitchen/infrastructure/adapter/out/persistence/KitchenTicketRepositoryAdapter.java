@@ -1,15 +1,30 @@
 package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence;
 
 
+import com.mongodb.ErrorCategory;
+import com.mongodb.bulk.BulkWriteResult;
 import gz.dmndev.restaurant.kitchen.application.port.out.KitchenTicketRepositoryPort;
 import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
 import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
 import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.mapper.KitchenTicketPersistenceMapper;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence.document.KitchenTicketDocument;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,6 +36,7 @@ import org.springframework.stereotype.Component;
 public class KitchenTicketRepositoryAdapter implements KitchenTicketRepositoryPort {
 
     private final MongoKitchenTicketRepository repository;
+    private final MongoTemplate mongoTemplate;
     private final KitchenTicketPersistenceMapper mapper;
 
     @Override
@@ -33,6 +49,81 @@ public class KitchenTicketRepositoryAdapter implements KitchenTicketRepositoryPo
         return mapper.toDomain(savedDocument);
     }
 
+    @Override
+    public KitchenTicket insertIfAbsent(KitchenTicket kitchenTicket) {
+        log.debug("Inserting kitchen ticket for order: {}", kitchenTicket.getOrderId());
+
+        var document = mapper.toDocument(kitchenTicket);
+        var storedDocument = mongoTemplate.findAndModify(
+                byOrderId(document.getOrderId()),
+                setOnInsert(document),
+                FindAndModifyOptions.options().upsert(true).returnNew(true),
+                KitchenTicketDocument.class);
+
+        return mapper.toDomain(storedDocument);
+    }
+
+    @Override
+    public List<KitchenTicket> insertAllIfAbsent(List<KitchenTicket> kitchenTickets) {
+        log.debug("Inserting {} kitchen tickets", kitchenTickets.size());
+
+        if (kitchenTickets.isEmpty()) {
+            return List.of();
+        }
+
+        // One unordered bulk write of upserts; only orders without a ticket get a new document
+        var bulkOperations = mongoTemplate.bulkOps(BulkMode.UNORDERED, KitchenTicketDocument.class);
+        for (KitchenTicket kitchenTicket : kitchenTickets) {
+            var document = mapper.toDocument(kitchenTicket);
+            bulkOperations.upsert(byOrderId(document.getOrderId()), setOnInsert(document));
+        }
+
+        BulkWriteResult result;
+        try {
+            result = bulkOperations.execute();
+        } catch (BulkOperationException e) {
+            // A concurrent upsert for the same order can insert first and make ours fail on the
+            // unique orderId index. That ticket already exists; the others were still written.
+            var otherErrors = e.getErrors().stream()
+                    .filter(error -> ErrorCategory.fromErrorCode(error.getCode()) != ErrorCategory.DUPLICATE_KEY)
+                    .toList();
+            if (!otherErrors.isEmpty()) {
+                throw e;
+            }
+            log.debug("{} kitchen tickets were inserted concurrently", e.getErrors().size());
+            result = e.getResult();
+        }
+
+        return result.getUpserts()
+                .stream()
+                .map(upsert -> kitchenTickets.get(upsert.getIndex()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public boolean updateState(KitchenTicket kitchenTicket) {
+        log.debug("Updating state of kitchen ticket: {}", kitchenTicket.getId());
+
+        var update = setTicketState(kitchenTicket);
+        var items = kitchenTicket.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            update.set("items." + i + ".prepared", items.get(i).isPrepared());
+        }
+
+        return updateIfUnchanged(kitchenTicket, update);
+    }
+
+    @Override
+    public boolean updateItemPrepared(KitchenTicket kitchenTicket, String productId) {
+        log.debug("Marking product {} as prepared on kitchen ticket: {}", productId, kitchenTicket.getId());
+
+        var update = setTicketState(kitchenTicket)
+                .set("items.$[item].prepared", true)
+                .filterArray(Criteria.where("item.productId").is(productId));
+
+        return updateIfUnchanged(kitchenTicket, update);
+    }
+
     @Override
     public Optional<KitchenTicket> findById(String id) {
         log.debug("Finding kitchen ticket by ID: {}", id);
@@ -92,4 +183,75 @@ public class KitchenTicketRepositoryAdapter implements KitchenTicketRepositoryPo
 
         return repository.countByStatus(status);
     }
+
+    @Override
+    public Map<PrepStatus, Long> countAllByStatus() {
+        log.debug("Counting kitchen tickets for all statuses");
+
+        // A single $group over the status index instead of one count per status
+        var aggregation = Aggregation.newAggregation(
+                Aggregation.group("status").count().as("count"));
+
+        Map<PrepStatus, Long> counts = new EnumMap<>(PrepStatus.class);
+        mongoTemplate.aggregate(aggregation, KitchenTicketDocument.class, StatusCount.class)
+                .forEach(statusCount -> {
+                    if (statusCount.status() != null) {
+                        counts.put(statusCount.status(), statusCount.count());
+                    }
+                });
+        return counts;
+    }
+
+    /** Row of the per-status count aggregation */
+    record StatusCount(@Id PrepStatus status, long count) { }
+
+    /**
+     * Build an update of the ticket fields that change while it is being prepared
+     */
+    private Update setTicketState(KitchenTicket kitchenTicket) {
+        return new Update()
+                .set("status", kitchenTicket.getStatus())
+                .set("assignedTo", kitchenTicket.getAssignedTo())
+                .set("updatedAt", kitchenTicket.getUpdatedAt())
+                .set("preparationStartedAt", kitchenTicket.getPreparationStartedAt())
+                .set("preparationCompletedAt", kitchenTicket.getPreparationCompletedAt())
+                .inc("version", 1);
+    }
+
+    /**
+     * Apply an update to the ticket only if it still has the version it was read with. Tickets
+     * stored before versioning have no version field, which a null version also matches.
+     */
+    private boolean updateIfUnchanged(KitchenTicket kitchenTicket, Update update) {
+        var query = Query.query(Criteria.where("_id").is(kitchenTicket.getId())
+                .and("version").is(kitchenTicket.getVersion()));
+
+        if (mongoTemplate.updateFirst(query, update, KitchenTicketDocument.class).getModifiedCount() == 0) {
+            return false;
+        }
+
+        var version = kitchenTicket.getVersion();
+        kitchenTicket.setVersion(version == null ? 1L : version + 1);
+        return true;
+    }
+
+    private Query byOrderId(String orderId) {
+        return Query.query(Criteria.where("orderId").is(orderId));
+    }
+
+    /**
+     * Build an update that writes every field of the document, but only when the upsert inserts it
+     */
+    private Update setOnInsert(KitchenTicketDocument document) {
+        var fields = new Document();
+        mongoTemplate.getConverter().write(document, fields);
+
+        var update = new Update();
+        fields.forEach((field, value) -> {
+            if (!"orderId".equals(field) && !"version".equals(field)) {
+                update.setOnInsert(field, value);
+            }
+        });
+        return update.setOnInsert("version", 0L);
+    }
 }
\ No newline at end of file
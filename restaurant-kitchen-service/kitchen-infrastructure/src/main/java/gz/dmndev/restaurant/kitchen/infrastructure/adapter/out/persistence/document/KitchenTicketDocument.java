@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
@@ -60,6 +61,9 @@ public class KitchenTicketDocument {
   /** Chef assigned to this ticket */
   @Indexed private String assignedTo;
 
+  /** Incremented on every change, guards updates against concurrent modification */
+  @Version private Long version;
+
   /** MongoDB document representing a TicketItem */
   @Data
   @Builder
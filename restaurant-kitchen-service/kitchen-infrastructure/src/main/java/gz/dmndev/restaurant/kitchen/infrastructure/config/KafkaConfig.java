@@ -0,0 +1,63 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+
+/**
+ * Kafka producer configuration for kitchen events. Events are serialised to bytes by the
+ * publisher, so the producer only batches and compresses them.
+ */
+@Configuration
+public class KafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${kitchen.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${kitchen.kafka.producer.linger-ms:10}")
+    private int lingerMs;
+
+    @Value("${kitchen.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Bean
+    public ProducerFactory<String, byte[]> kitchenEventsProducerFactory(
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        // Ticket events come in bursts at service time; a short linger groups them into
+        // compressed batches instead of one request per event
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        var producerFactory = new DefaultKafkaProducerFactory<String, byte[]>(configProps);
+        // Exposes the client metrics, among them batch-size-avg and compression-rate-avg
+        meterRegistry.ifAvailable(
+                registry -> producerFactory.addListener(new MicrometerProducerListener<>(registry)));
+        return producerFactory;
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> kitchenEventsKafkaTemplate(
+            ProducerFactory<String, byte[]> kitchenEventsProducerFactory) {
+        return new KafkaTemplate<>(kitchenEventsProducerFactory);
+    }
+}
@@ -0,0 +1,190 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.in.rest.dto.TicketDelta;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class KitchenDisplayFeedTest {
+
+  private final Deque<RecordingEmitter> emitters = new ArrayDeque<>();
+  private final CountDownLatch unblock = new CountDownLatch(1);
+  private KitchenDisplayFeed feed;
+
+  @BeforeEach
+  void setUp() {
+    feed =
+        new KitchenDisplayFeed(
+            mock(MongoTemplate.class),
+            new ObjectMapper(),
+            3,
+            4,
+            Duration.ofMinutes(1),
+            Duration.ofSeconds(1)) {
+          @Override
+          SseEmitter newEmitter() {
+            return emitters.removeFirst();
+          }
+        };
+  }
+
+  @AfterEach
+  void tearDown() {
+    unblock.countDown();
+    feed.stop();
+  }
+
+  @Test
+  void publish_shouldNotWaitForSlowDisplay_andDisconnectItWhenItFallsBehind() {
+    // Arrange
+    RecordingEmitter slow = new RecordingEmitter(unblock);
+    RecordingEmitter fast = new RecordingEmitter(null);
+    emitters.add(slow);
+    emitters.add(fast);
+    feed.subscribe(null, null);
+    feed.subscribe(null, null);
+
+    // Act
+    assertTimeoutPreemptively(
+        Duration.ofSeconds(5),
+        () -> {
+          for (int i = 1; i <= 6; i++) {
+            feed.publish("event-" + i, delta("ticket-" + i));
+            int sent = i;
+            await(() -> fast.events.size() == sent);
+          }
+        });
+
+    // Assert
+    assertTrue(fast.events.get(5).contains("id:event-6"));
+    await(() -> slow.closed);
+    assertTrue(slow.events.isEmpty());
+    assertFalse(fast.closed);
+  }
+
+  @Test
+  void subscribe_shouldReplayChangesMissedSinceLastEventId() {
+    // Arrange
+    feed.publish("event-1", delta("ticket-1"));
+    feed.publish("event-2", delta("ticket-2"));
+    feed.publish("event-3", delta("ticket-3"));
+    RecordingEmitter display = new RecordingEmitter(null);
+    emitters.add(display);
+
+    // Act
+    feed.subscribe(Set.of(), "event-1");
+
+    // Assert
+    await(() -> display.events.size() == 2);
+    assertTrue(display.events.get(0).contains("id:event-2"));
+    assertTrue(display.events.get(1).contains("id:event-3"));
+  }
+
+  @Test
+  void subscribe_shouldSendReset_whenLastEventIdIsNoLongerKept() {
+    // Arrange
+    feed.publish("event-1", delta("ticket-1"));
+    RecordingEmitter display = new RecordingEmitter(null);
+    emitters.add(display);
+
+    // Act
+    feed.subscribe(null, "event-0");
+
+    // Assert
+    await(() -> display.events.size() == 1);
+    assertTrue(display.events.get(0).contains("event:" + KitchenDisplayFeed.RESET_EVENT));
+  }
+
+  @Test
+  void restartFromNow_shouldSendResetToEveryDisplay_andForgetKeptChanges() {
+    // Arrange
+    feed.publish("event-1", delta("ticket-1"));
+    RecordingEmitter display = new RecordingEmitter(null);
+    emitters.add(display);
+    feed.subscribe(null, null);
+
+    // Act
+    feed.restartFromNow();
+
+    // Assert
+    await(() -> display.events.size() == 1);
+    assertTrue(display.events.get(0).contains("event:" + KitchenDisplayFeed.RESET_EVENT));
+    RecordingEmitter reconnected = new RecordingEmitter(null);
+    emitters.add(reconnected);
+    feed.subscribe(null, "event-1");
+    await(() -> reconnected.events.size() == 1);
+    assertTrue(reconnected.events.get(0).contains("event:" + KitchenDisplayFeed.RESET_EVENT));
+  }
+
+  private static TicketDelta delta(String ticketId) {
+    return new TicketDelta(
+        ticketId,
+        "order-1",
+        "RECEIVED",
+        List.of(new TicketDelta.ItemDelta("product-1", false)),
+        0,
+        null);
+  }
+
+  private static void await(BooleanSupplier condition) {
+    long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() > deadline) {
+        fail("Condition not met in time");
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  /** Records the events sent to a display; blocks every send until released when given a latch */
+  private static class RecordingEmitter extends SseEmitter {
+
+    private final CountDownLatch release;
+    private final List<String> events = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    RecordingEmitter(CountDownLatch release) {
+      this.release = release;
+    }
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+      if (release != null) {
+        try {
+          release.await();
+        } catch (InterruptedException e) {
+          throw new InterruptedIOException("Display disconnected");
+        }
+      }
+      StringBuilder event = new StringBuilder();
+      builder.build().forEach(part -> event.append(part.getData()));
+      events.add(event.toString());
+    }
+
+    @Override
+    public void complete() {
+      closed = true;
+    }
+
+    @Override
+    public void completeWithError(Throwable ex) {
+      closed = true;
+    }
+  }
+}
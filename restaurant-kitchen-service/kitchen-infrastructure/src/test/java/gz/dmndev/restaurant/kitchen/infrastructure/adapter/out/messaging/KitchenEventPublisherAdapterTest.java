@@ -0,0 +1,136 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.common.messaging.serialization.EventDeserializer;
+import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
+import gz.dmndev.restaurant.kitchen.domain.model.PrepStatus;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging.dto.KitchenTicketEvent;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.messaging.dto.OrderPreparedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenEventPublisherAdapterTest {
+
+  @Mock private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+  private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private KitchenEventPublisherAdapter adapter;
+
+  private final KitchenTicket ticket =
+      KitchenTicket.builder()
+          .id("ticket-1")
+          .orderId("order-1")
+          .customerId("customer-1")
+          .customerName("Test Customer")
+          .status(PrepStatus.READY)
+          .assignedTo("chef-1")
+          .build();
+
+  @BeforeEach
+  void setUp() {
+    when(meterRegistryProvider.getIfAvailable(any())).thenReturn(meterRegistry);
+    adapter =
+        new KitchenEventPublisherAdapter(
+            kafkaTemplate,
+            meterRegistryProvider,
+            KafkaTopics.KITCHEN_EVENTS,
+            KafkaTopics.ORDER_EVENTS);
+  }
+
+  @Test
+  void publishOrderReadyEvent_shouldSendOnePayloadToBothTopics() {
+    // Arrange
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(new CompletableFuture<>());
+
+    // Act
+    adapter.publishOrderReadyEvent(ticket);
+
+    // Assert
+    ArgumentCaptor<byte[]> kitchenPayload = ArgumentCaptor.forClass(byte[].class);
+    ArgumentCaptor<byte[]> orderPayload = ArgumentCaptor.forClass(byte[].class);
+    verify(kafkaTemplate)
+        .send(eq(KafkaTopics.KITCHEN_EVENTS), eq("order-1"), kitchenPayload.capture());
+    verify(kafkaTemplate)
+        .send(eq(KafkaTopics.ORDER_EVENTS), eq("order-1"), orderPayload.capture());
+    assertSame(kitchenPayload.getValue(), orderPayload.getValue());
+    assertEquals(1, meterRegistry.get("kitchen.events.payload").summary().count());
+
+    OrderPreparedEvent event =
+        new EventDeserializer<>(OrderPreparedEvent.class)
+            .deserialize(KafkaTopics.ORDER_EVENTS, orderPayload.getValue());
+    assertEquals("order-1", event.getOrderId());
+    assertEquals("chef-1", event.getPreparedBy());
+  }
+
+  @Test
+  void publishTicketCreatedEvent_shouldSendToKitchenTopicOnly() {
+    // Arrange
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(new CompletableFuture<>());
+
+    // Act
+    adapter.publishTicketCreatedEvent(ticket);
+
+    // Assert
+    ArgumentCaptor<byte[]> payload = ArgumentCaptor.forClass(byte[].class);
+    verify(kafkaTemplate).send(eq(KafkaTopics.KITCHEN_EVENTS), eq("order-1"), payload.capture());
+    verifyNoMoreInteractions(kafkaTemplate);
+
+    KitchenTicketEvent event =
+        new EventDeserializer<>(KitchenTicketEvent.class)
+            .deserialize(KafkaTopics.KITCHEN_EVENTS, payload.getValue());
+    assertEquals(KitchenEventPublisherAdapter.TICKET_CREATED, event.eventType());
+    assertEquals("ticket-1", event.ticketId());
+  }
+
+  @Test
+  void publish_shouldRecordSendOutcomePerTopic() {
+    // Arrange
+    CompletableFuture<SendResult<String, byte[]>> acknowledged = new CompletableFuture<>();
+    CompletableFuture<SendResult<String, byte[]>> rejected = new CompletableFuture<>();
+    when(kafkaTemplate.send(eq(KafkaTopics.KITCHEN_EVENTS), anyString(), any(byte[].class)))
+        .thenReturn(acknowledged);
+    when(kafkaTemplate.send(eq(KafkaTopics.ORDER_EVENTS), anyString(), any(byte[].class)))
+        .thenReturn(rejected);
+    adapter.publishOrderReadyEvent(ticket);
+
+    // Act
+    acknowledged.complete(mock(SendResult.class, RETURNS_DEEP_STUBS));
+    rejected.completeExceptionally(new IllegalStateException("Broker unavailable"));
+
+    // Assert
+    assertEquals(
+        1,
+        meterRegistry
+            .get("kitchen.events.send")
+            .tags("topic", KafkaTopics.KITCHEN_EVENTS, "outcome", "success")
+            .timer()
+            .count());
+    assertEquals(
+        1,
+        meterRegistry
+            .get("kitchen.events.send")
+            .tags("topic", KafkaTopics.ORDER_EVENTS, "outcome", "failure")
+            .timer()
+            .count());
+  }
+}
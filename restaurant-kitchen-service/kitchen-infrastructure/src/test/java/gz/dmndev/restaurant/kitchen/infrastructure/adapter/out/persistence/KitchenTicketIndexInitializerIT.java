@@ -0,0 +1,58 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence.document.KitchenTicketDocument;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+@DataMongoTest
+@Testcontainers
+@Import(KitchenTicketIndexInitializer.class)
+class KitchenTicketIndexInitializerIT {
+
+  @Container static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
+
+  @DynamicPropertySource
+  static void mongoProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.data.mongodb.uri", mongoDBContainer::getConnectionString);
+    registry.add("spring.data.mongodb.database", () -> "testdb");
+  }
+
+  @Autowired private MongoTemplate mongoTemplate;
+
+  @Test
+  void shouldCreateUniqueIndexOnOrderId() {
+    // Act
+    IndexInfo orderIdIndex =
+        mongoTemplate.indexOps(KitchenTicketDocument.class).getIndexInfo().stream()
+            .filter(index -> index.isIndexForFields(List.of("orderId")))
+            .findFirst()
+            .orElseThrow(() -> new AssertionError("No index on orderId"));
+
+    // Assert
+    assertTrue(orderIdIndex.isUnique());
+  }
+
+  @Test
+  void shouldRejectSecondTicketForSameOrder() {
+    // Arrange
+    mongoTemplate.insert(KitchenTicketDocument.builder().orderId("order-1").build());
+
+    // Act & Assert
+    assertThrows(
+        DuplicateKeyException.class,
+        () -> mongoTemplate.insert(KitchenTicketDocument.builder().orderId("order-1").build()));
+  }
+}
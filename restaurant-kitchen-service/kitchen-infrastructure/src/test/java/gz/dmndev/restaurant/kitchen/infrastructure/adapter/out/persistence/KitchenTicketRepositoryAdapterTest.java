@@ -0,0 +1,118 @@
+package gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import gz.dmndev.restaurant.kitchen.domain.model.KitchenTicket;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.mapper.KitchenTicketPersistenceMapper;
+import gz.dmndev.restaurant.kitchen.infrastructure.adapter.out.persistence.document.KitchenTicketDocument;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenTicketRepositoryAdapterTest {
+
+  private static final int DUPLICATE_KEY = 11000;
+
+  @Mock private MongoKitchenTicketRepository repository;
+
+  @Mock private MongoTemplate mongoTemplate;
+
+  @Mock private MongoConverter converter;
+
+  @Mock private BulkOperations bulkOperations;
+
+  private KitchenTicketRepositoryAdapter adapter;
+
+  private final List<KitchenTicket> tickets =
+      List.of(ticket("order-1"), ticket("order-2"), ticket("order-3"));
+
+  @BeforeEach
+  void setUp() {
+    adapter =
+        new KitchenTicketRepositoryAdapter(
+            repository, mongoTemplate, new KitchenTicketPersistenceMapper());
+    when(mongoTemplate.getConverter()).thenReturn(converter);
+    when(mongoTemplate.bulkOps(BulkMode.UNORDERED, KitchenTicketDocument.class))
+        .thenReturn(bulkOperations);
+  }
+
+  @Test
+  void insertAllIfAbsent_shouldReturnUpsertedTickets() {
+    // Arrange
+    when(bulkOperations.execute()).thenReturn(result(0, 2));
+
+    // Act
+    List<KitchenTicket> inserted = adapter.insertAllIfAbsent(tickets);
+
+    // Assert
+    assertEquals(List.of(tickets.get(0), tickets.get(2)), inserted);
+    verify(bulkOperations, times(3)).upsert(any(), any());
+  }
+
+  @Test
+  void insertAllIfAbsent_shouldReturnInsertedTickets_whenConcurrentUpsertWins() {
+    // Arrange
+    BulkWriteError duplicate =
+        new BulkWriteError(DUPLICATE_KEY, "E11000 duplicate key", new BsonDocument(), 1);
+    when(bulkOperations.execute()).thenThrow(failure(result(0, 2), duplicate));
+
+    // Act
+    List<KitchenTicket> inserted = adapter.insertAllIfAbsent(tickets);
+
+    // Assert
+    assertEquals(List.of(tickets.get(0), tickets.get(2)), inserted);
+  }
+
+  @Test
+  void insertAllIfAbsent_shouldRethrow_whenWriteFailsForOtherReason() {
+    // Arrange
+    BulkWriteError tooLarge =
+        new BulkWriteError(10334, "BSONObj size is invalid", new BsonDocument(), 1);
+    BulkOperationException failure = failure(result(0), tooLarge);
+    when(bulkOperations.execute()).thenThrow(failure);
+
+    // Act & Assert
+    BulkOperationException thrown =
+        assertThrows(BulkOperationException.class, () -> adapter.insertAllIfAbsent(tickets));
+    assertSame(failure, thrown);
+  }
+
+  private static BulkWriteResult result(int... upsertedIndexes) {
+    List<BulkWriteUpsert> upserts =
+        Arrays.stream(upsertedIndexes)
+            .mapToObj(index -> new BulkWriteUpsert(index, new BsonString("ticket-" + index)))
+            .toList();
+    return BulkWriteResult.acknowledged(0, 0, 0, 0, upserts, List.of());
+  }
+
+  private static BulkOperationException failure(BulkWriteResult result, BulkWriteError error) {
+    return new BulkOperationException(
+        "Bulk write failed",
+        new MongoBulkWriteException(
+            result, List.of(error), null, new ServerAddress("localhost"), Set.of()));
+  }
+
+  private static KitchenTicket ticket(String orderId) {
+    return KitchenTicket.builder().orderId(orderId).customerId("customer-1").build();
+  }
+}
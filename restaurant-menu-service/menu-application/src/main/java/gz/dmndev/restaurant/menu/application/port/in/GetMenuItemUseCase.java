@@ -1,15 +1,56 @@
 package gz.dmndev.restaurant.menu.application.port.in;
 
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface GetMenuItemUseCase {
+
+  int MAX_PAGE_SIZE = 100;
+
+  /**
+   * Criteria for filtering the menu. Tags and allergens are matched case-insensitively; empty sets
+   * and a null category do not restrict the result.
+   *
+   * @param categoryId the category the items belong to
+   * @param tags tags every item must have, such as "vegan"
+   * @param excludedTags tags no item may have
+   * @param excludedAllergens allergens no item may contain, such as "gluten" or "nuts"
+   */
+  record MenuItemFilter(
+      String categoryId,
+      Set<String> tags,
+      Set<String> excludedTags,
+      Set<String> excludedAllergens) {
+
+    public MenuItemFilter {
+      tags = tags == null ? Set.of() : Set.copyOf(tags);
+      excludedTags = excludedTags == null ? Set.of() : Set.copyOf(excludedTags);
+      excludedAllergens = excludedAllergens == null ? Set.of() : Set.copyOf(excludedAllergens);
+    }
+  }
+
   Optional<MenuItem> getMenuItemById(String id);
 
   List<MenuItem> getAllMenuItems();
 
+  List<MenuItem> getMenuItemsByIds(Collection<String> ids);
+
   List<MenuItem> getMenuItemsByCategory(String categoryId);
 
   List<MenuItem> searchMenuItems(String query);
+
+  List<MenuItem> filterMenuItems(MenuItemFilter filter);
+
+  /**
+   * Get a page of menu items holding only the selected fields
+   *
+   * @param categoryId the category to list, all categories if null
+   * @param fields the fields to return, all fields if empty
+   * @param page the zero-based page number
+   * @param size the page size, at most {@value #MAX_PAGE_SIZE}
+   */
+  MenuItemPage getMenuItemPage(String categoryId, Set<MenuItemField> fields, int page, int size);
 }
@@ -0,0 +1,5 @@
+package gz.dmndev.restaurant.menu.application.port.in;
+
+public interface GetMenuSnapshotUseCase {
+  MenuSnapshot getMenuSnapshot();
+}
@@ -0,0 +1,49 @@
+package gz.dmndev.restaurant.menu.application.port.in;
+
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/** Use case for importing a whole menu at once */
+public interface ImportMenuItemsUseCase {
+
+  /** Progress of an import, reported after every chunk written */
+  record ImportProgress(int chunks, long imported, long rejected) {}
+
+  /**
+   * Outcome of an import
+   *
+   * @param imported the number of menu items written
+   * @param rejected the number of menu items that failed validation or could not be written
+   * @param errors the reasons items were rejected, the first ones only
+   * @param parseError why reading stopped before the end of the import, with the position of the
+   *     unreadable item; null if every item was read
+   */
+  record ImportResult(long imported, long rejected, List<String> errors, String parseError) {}
+
+  /** Thrown by the items of an import when the next item cannot be read */
+  class MalformedImportException extends IllegalArgumentException {
+
+    public MalformedImportException(String message) {
+      super(message);
+    }
+
+    public MalformedImportException(String message, Throwable cause) {
+      super(message, cause);
+    }
+  }
+
+  /**
+   * Import new menu items, writing them in chunks as they are read. Invalid items are skipped and
+   * reported. If an item cannot be read, the items read before it are still written and the import
+   * stops there, reporting the parse error.
+   *
+   * @param menuItems the items to import; each category holds only its ID. May throw {@link
+   *     MalformedImportException} when the next item cannot be read
+   * @param progressListener notified after every chunk
+   * @return the outcome of the import
+   */
+  ImportResult importMenuItems(
+      Iterator<MenuItem> menuItems, Consumer<ImportProgress> progressListener);
+}
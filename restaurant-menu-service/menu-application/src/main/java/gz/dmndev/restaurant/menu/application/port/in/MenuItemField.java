@@ -0,0 +1,33 @@
+package gz.dmndev.restaurant.menu.application.port.in;
+
+import java.util.Arrays;
+
+/** Menu item fields a client can select, named as they appear in API responses. */
+public enum MenuItemField {
+  ID("id"),
+  NAME("name"),
+  DESCRIPTION("description"),
+  PRICE("price"),
+  CATEGORY("category"),
+  TAGS("tags"),
+  ALLERGENS("allergens"),
+  AVAILABLE("available"),
+  IMAGE_URL("imageUrl");
+
+  private final String fieldName;
+
+  MenuItemField(String fieldName) {
+    this.fieldName = fieldName;
+  }
+
+  public String fieldName() {
+    return fieldName;
+  }
+
+  public static MenuItemField fromFieldName(String fieldName) {
+    return Arrays.stream(values())
+        .filter(field -> field.fieldName.equals(fieldName))
+        .findFirst()
+        .orElseThrow(() -> new IllegalArgumentException("Unknown menu item field: " + fieldName));
+  }
+}
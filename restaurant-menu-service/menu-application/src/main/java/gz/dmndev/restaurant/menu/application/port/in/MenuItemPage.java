@@ -0,0 +1,15 @@
+package gz.dmndev.restaurant.menu.application.port.in;
+
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.List;
+
+/**
+ * One page of menu items. Fields that were not selected are left null in the items, and {@code
+ * available} is false.
+ */
+public record MenuItemPage(List<MenuItem> items, int page, int size, long totalItems) {
+
+  public int totalPages() {
+    return (int) ((totalItems + size - 1) / size);
+  }
+}
@@ -0,0 +1,62 @@
+package gz.dmndev.restaurant.menu.application.port.in;
+
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable view of the whole menu. Each list carries a version derived from its content, so two
+ * snapshots with the same items have the same version whichever instance built them.
+ */
+public record MenuSnapshot(
+    List<MenuItem> menuItems,
+    String menuItemsVersion,
+    List<Category> categories,
+    String categoriesVersion) {
+
+  public static MenuSnapshot of(List<MenuItem> menuItems, List<Category> categories) {
+    List<MenuItem> items = List.copyOf(menuItems);
+    List<Category> allCategories = List.copyOf(categories);
+    return new MenuSnapshot(items, versionOf(items), allCategories, versionOf(allCategories));
+  }
+
+  public List<MenuItem> menuItemsByCategory(String categoryId) {
+    return menuItems.stream()
+        .filter(item -> item.category() != null && categoryId.equals(item.category().id()))
+        .toList();
+  }
+
+  /**
+   * Number of menu items in each category that has any, keyed by category ID. Being derived from
+   * the snapshot, the counts change only with {@link #menuItemsVersion()}.
+   */
+  public Map<String, Long> menuItemCountsByCategory() {
+    return menuItems.stream()
+        .filter(item -> item.category() != null && item.category().id() != null)
+        .collect(Collectors.groupingBy(item -> item.category().id(), Collectors.counting()));
+  }
+
+  public List<Category> activeCategories() {
+    return categories.stream().filter(Category::active).toList();
+  }
+
+  // Records render every field, which makes their string form a stable content fingerprint
+  private static String versionOf(List<?> content) {
+    try {
+      byte[] digest =
+          MessageDigest.getInstance("SHA-256")
+              .digest(Objects.toString(content).getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(Arrays.copyOf(digest, 16));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,9 @@
+package gz.dmndev.restaurant.menu.application.port.out;
+
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+
+public interface MenuEventPublisherPort {
+  void publishMenuItemUpdatedEvent(MenuItem menuItem);
+
+  void publishMenuItemDeletedEvent(String menuItemId);
+}
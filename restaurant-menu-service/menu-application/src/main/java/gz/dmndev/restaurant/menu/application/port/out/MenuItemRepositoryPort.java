@@ -1,5 +1,29 @@
 package gz.dmndev.restaurant.menu.application.port.out;
 
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import gz.dmndev.restaurant.menu.domain.repository.MenuItemRepository;
+import java.util.List;
+import java.util.Set;
 
-public interface MenuItemRepositoryPort extends MenuItemRepository {}
+public interface MenuItemRepositoryPort extends MenuItemRepository {
+
+  /**
+   * Load a page of menu items ordered by name, reading only the selected fields from storage.
+   *
+   * @param categoryId the category to list, all categories if null
+   * @param fields the fields to load, all fields if empty
+   * @param page the zero-based page number
+   * @param size the page size
+   */
+  MenuItemPage findPage(String categoryId, Set<MenuItemField> fields, int page, int size);
+
+  /**
+   * Insert new menu items in one bulk write. Items that cannot be written do not prevent the others
+   * from being written.
+   *
+   * @return the number of menu items inserted
+   */
+  int insertAll(List<MenuItem> menuItems);
+}
@@ -23,11 +23,16 @@ public class CategoryService
 
   private final CategoryRepositoryPort categoryRepository;
   private final MenuItemRepositoryPort menuItemRepository;
+  private final MenuSnapshotService menuSnapshot;
+  private final MenuSearchIndex searchIndex;
 
   @Override
   @Transactional
   public Category createCategory(Category category) {
-    return categoryRepository.save(category);
+    Category savedCategory = categoryRepository.save(category);
+    menuSnapshot.invalidate();
+    searchIndex.invalidate();
+    return savedCategory;
   }
 
   @Override
@@ -57,7 +62,10 @@ public class CategoryService
         .orElseThrow(
             () -> new IllegalArgumentException("Category not found with id: " + category.id()));
 
-    return categoryRepository.save(category);
+    Category savedCategory = categoryRepository.save(category);
+    menuSnapshot.invalidate();
+    searchIndex.invalidate();
+    return savedCategory;
   }
 
   @Override
@@ -76,7 +84,10 @@ public class CategoryService
             category.displayOrder(),
             active);
 
-    return categoryRepository.save(updatedCategory);
+    Category savedCategory = categoryRepository.save(updatedCategory);
+    menuSnapshot.invalidate();
+    searchIndex.invalidate();
+    return savedCategory;
   }
 
   @Override
@@ -88,10 +99,12 @@ public class CategoryService
         .orElseThrow(() -> new IllegalArgumentException("Category not found with id: " + id));
 
     // Verificar si hay productos en esta categoría
-    if (!menuItemRepository.findByCategoryId(id).isEmpty()) {
+    if (menuItemRepository.existsByCategoryId(id)) {
       throw new IllegalStateException("Cannot delete a category that has menu items");
     }
 
     categoryRepository.deleteById(id);
+    menuSnapshot.invalidate();
+    searchIndex.invalidate();
   }
 }
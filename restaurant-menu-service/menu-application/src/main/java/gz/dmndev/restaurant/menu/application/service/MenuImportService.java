@@ -0,0 +1,174 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.MalformedImportException;
+import gz.dmndev.restaurant.menu.application.port.out.CategoryRepositoryPort;
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Imports menu items in chunks, so only one chunk is held in memory however large the menu is.
+ * Categories are loaded once up front to validate every item against.
+ */
+@Service
+public class MenuImportService implements ImportMenuItemsUseCase {
+
+  static final int MAX_REPORTED_ERRORS = 100;
+
+  private final MenuItemRepositoryPort menuItemRepository;
+  private final CategoryRepositoryPort categoryRepository;
+  private final MenuSnapshotService menuSnapshot;
+  private final MenuSearchIndex searchIndex;
+  private final int chunkSize;
+
+  public MenuImportService(
+      MenuItemRepositoryPort menuItemRepository,
+      CategoryRepositoryPort categoryRepository,
+      MenuSnapshotService menuSnapshot,
+      MenuSearchIndex searchIndex,
+      @Value("${restaurant.menu.import.chunk-size:1000}") int chunkSize) {
+    if (chunkSize < 1) {
+      throw new IllegalArgumentException("Import chunk size must be positive: " + chunkSize);
+    }
+    this.menuItemRepository = menuItemRepository;
+    this.categoryRepository = categoryRepository;
+    this.menuSnapshot = menuSnapshot;
+    this.searchIndex = searchIndex;
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public ImportResult importMenuItems(
+      Iterator<MenuItem> menuItems, Consumer<ImportProgress> progressListener) {
+    Map<String, Category> categories =
+        categoryRepository.findAll().stream()
+            .collect(Collectors.toMap(Category::id, Function.identity()));
+
+    Import currentImport = new Import(progressListener);
+    String parseError = null;
+    long position = 0;
+    try {
+      try {
+        while (menuItems.hasNext()) {
+          MenuItem menuItem = menuItems.next();
+          position++;
+
+          Category category =
+              menuItem.category() != null ? categories.get(menuItem.category().id()) : null;
+          String error = validate(menuItem, category);
+          if (error != null) {
+            currentImport.reject("Item " + position + ": " + error);
+            continue;
+          }
+
+          currentImport.add(withCategory(menuItem, category));
+        }
+      } catch (MalformedImportException e) {
+        // Nothing after an unreadable item can be trusted; keep the items read before it
+        parseError = "Item " + (position + 1) + ": " + e.getMessage();
+      }
+      currentImport.flush();
+    } finally {
+      if (currentImport.imported > 0) {
+        menuSnapshot.invalidate();
+        searchIndex.invalidate();
+      }
+    }
+
+    return new ImportResult(
+        currentImport.imported,
+        currentImport.rejected,
+        List.copyOf(currentImport.errors),
+        parseError);
+  }
+
+  private static String validate(MenuItem menuItem, Category category) {
+    if (menuItem.name() == null || menuItem.name().isBlank()) {
+      return "Name is required";
+    }
+    if (menuItem.price() == null) {
+      return "Price is required";
+    }
+    if (menuItem.price().compareTo(BigDecimal.ZERO) < 0) {
+      return "Price must be greater than or equal to zero";
+    }
+    if (menuItem.category() == null || menuItem.category().id() == null) {
+      return "Category ID is required";
+    }
+    if (category == null) {
+      return "Category not found with id: " + menuItem.category().id();
+    }
+    return null;
+  }
+
+  private static MenuItem withCategory(MenuItem menuItem, Category category) {
+    return new MenuItem(
+        null,
+        menuItem.name(),
+        menuItem.description(),
+        menuItem.price(),
+        category,
+        menuItem.tags(),
+        menuItem.allergens(),
+        menuItem.available(),
+        menuItem.imageUrl());
+  }
+
+  /** State of one import run */
+  private final class Import {
+
+    private final Consumer<ImportProgress> progressListener;
+    private final List<MenuItem> chunk = new ArrayList<>(chunkSize);
+    private final List<String> errors = new ArrayList<>();
+    private int chunks;
+    private long imported;
+    private long rejected;
+
+    private Import(Consumer<ImportProgress> progressListener) {
+      this.progressListener = progressListener;
+    }
+
+    private void add(MenuItem menuItem) {
+      chunk.add(menuItem);
+      if (chunk.size() == chunkSize) {
+        flush();
+      }
+    }
+
+    private void reject(String error) {
+      rejected++;
+      if (errors.size() < MAX_REPORTED_ERRORS) {
+        errors.add(error);
+      }
+    }
+
+    private void flush() {
+      if (chunk.isEmpty()) {
+        return;
+      }
+      int written = menuItemRepository.insertAll(chunk);
+      imported += written;
+      if (written < chunk.size()) {
+        long failed = chunk.size() - written;
+        rejected += failed;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+          errors.add("Chunk " + (chunks + 1) + ": " + failed + " items could not be written");
+        }
+      }
+      chunk.clear();
+      chunks++;
+      progressListener.accept(new ImportProgress(chunks, imported, rejected));
+    }
+  }
+}
@@ -0,0 +1,117 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase.MenuItemFilter;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable index answering tag and allergen filters over a fixed list of menu items.
+ *
+ * <p>Every distinct tag and allergen is given a dense bit position, and each item is stored as a
+ * row of {@code long} words with the bits of its tags and allergens set. A filter is compiled into
+ * an include mask and an exclude mask once, after which matching an item is a couple of bitwise
+ * operations per word, with no string comparisons.
+ */
+public final class MenuItemFilterIndex {
+
+  private final List<MenuItem> menuItems;
+  private final Map<String, Integer> tagBits = new HashMap<>();
+  private final Map<String, Integer> allergenBits = new HashMap<>();
+  private final int words;
+  // Row i, words [i * words, (i + 1) * words), holds the bits of menuItems[i]
+  private final long[] rows;
+
+  public MenuItemFilterIndex(List<MenuItem> menuItems) {
+    this.menuItems = List.copyOf(menuItems);
+
+    for (MenuItem item : this.menuItems) {
+      assignBits(tagBits, item.tags(), 0);
+    }
+    for (MenuItem item : this.menuItems) {
+      assignBits(allergenBits, item.allergens(), tagBits.size());
+    }
+    this.words = Math.max(1, (tagBits.size() + allergenBits.size() + 63) / 64);
+
+    this.rows = new long[this.menuItems.size() * words];
+    for (int i = 0; i < this.menuItems.size(); i++) {
+      MenuItem item = this.menuItems.get(i);
+      setBits(rows, i * words, tagBits, item.tags());
+      setBits(rows, i * words, allergenBits, item.allergens());
+    }
+  }
+
+  /**
+   * Find the menu items matching a filter.
+   *
+   * @return the matching items, in the order the index was built with
+   */
+  public List<MenuItem> filter(MenuItemFilter filter) {
+    long[] include = new long[words];
+    long[] exclude = new long[words];
+    for (String tag : filter.tags()) {
+      Integer bit = tagBits.get(normalize(tag));
+      if (bit == null) {
+        // No item carries the tag
+        return List.of();
+      }
+      set(include, 0, bit);
+    }
+    setBits(exclude, 0, tagBits, filter.excludedTags());
+    setBits(exclude, 0, allergenBits, filter.excludedAllergens());
+
+    List<MenuItem> result = new ArrayList<>();
+    for (int i = 0; i < menuItems.size(); i++) {
+      if (matches(i * words, include, exclude) && inCategory(menuItems.get(i), filter)) {
+        result.add(menuItems.get(i));
+      }
+    }
+    return result;
+  }
+
+  private boolean matches(int offset, long[] include, long[] exclude) {
+    for (int w = 0; w < words; w++) {
+      long row = rows[offset + w];
+      if ((row & include[w]) != include[w] || (row & exclude[w]) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean inCategory(MenuItem item, MenuItemFilter filter) {
+    return filter.categoryId() == null
+        || (item.category() != null && filter.categoryId().equals(item.category().id()));
+  }
+
+  private static void assignBits(Map<String, Integer> bits, List<String> values, int offset) {
+    if (values != null) {
+      values.forEach(value -> bits.putIfAbsent(normalize(value), offset + bits.size()));
+    }
+  }
+
+  private static void setBits(
+      long[] target, int offset, Map<String, Integer> bits, Collection<String> values) {
+    if (values == null) {
+      return;
+    }
+    for (String value : values) {
+      Integer bit = bits.get(normalize(value));
+      if (bit != null) {
+        set(target, offset, bit);
+      }
+    }
+  }
+
+  private static void set(long[] target, int offset, int bit) {
+    target[offset + (bit >>> 6)] |= 1L << bit;
+  }
+
+  private static String normalize(String value) {
+    return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+  }
+}
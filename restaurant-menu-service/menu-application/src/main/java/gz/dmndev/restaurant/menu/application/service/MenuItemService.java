@@ -3,11 +3,16 @@ package gz.dmndev.restaurant.menu.application.service;
 import gz.dmndev.restaurant.menu.application.port.in.CreateMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.DeleteMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
 import gz.dmndev.restaurant.menu.application.port.in.UpdateMenuItemUseCase;
+import gz.dmndev.restaurant.menu.application.port.out.MenuEventPublisherPort;
 import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,11 +26,17 @@ public class MenuItemService
         DeleteMenuItemUseCase {
 
   private final MenuItemRepositoryPort menuItemRepository;
+  private final MenuEventPublisherPort menuEventPublisher;
+  private final MenuSnapshotService menuSnapshot;
+  private final MenuSearchIndex searchIndex;
 
   @Override
   @Transactional
   public MenuItem createMenuItem(MenuItem menuItem) {
-    return menuItemRepository.save(menuItem);
+    MenuItem savedItem = menuItemRepository.save(menuItem);
+    menuSnapshot.invalidate();
+    searchIndex.put(savedItem);
+    return savedItem;
   }
 
   @Override
@@ -40,6 +51,15 @@ public class MenuItemService
     return menuItemRepository.findAll();
   }
 
+  @Override
+  @Transactional(readOnly = true)
+  public List<MenuItem> getMenuItemsByIds(Collection<String> ids) {
+    if (ids == null || ids.isEmpty()) {
+      return List.of();
+    }
+    return menuItemRepository.findAllByIds(ids);
+  }
+
   @Override
   @Transactional(readOnly = true)
   public List<MenuItem> getMenuItemsByCategory(String categoryId) {
@@ -47,9 +67,27 @@ public class MenuItemService
   }
 
   @Override
-  @Transactional(readOnly = true)
   public List<MenuItem> searchMenuItems(String query) {
-    return menuItemRepository.findByNameContaining(query);
+    return searchIndex.search(query);
+  }
+
+  @Override
+  public List<MenuItem> filterMenuItems(MenuItemFilter filter) {
+    return menuSnapshot.getFilterIndex().filter(filter);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public MenuItemPage getMenuItemPage(
+      String categoryId, Set<MenuItemField> fields, int page, int size) {
+    if (page < 0) {
+      throw new IllegalArgumentException("Page must not be negative: " + page);
+    }
+    if (size < 1 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + size);
+    }
+    return menuItemRepository.findPage(categoryId, fields, page, size);
   }
 
   @Override
@@ -61,7 +99,13 @@ public class MenuItemService
         .orElseThrow(
             () -> new IllegalArgumentException("Menu item not found with id: " + menuItem.id()));
 
-    return menuItemRepository.save(menuItem);
+    MenuItem savedItem = menuItemRepository.save(menuItem);
+    menuSnapshot.invalidate();
+    searchIndex.put(savedItem);
+
+    menuEventPublisher.publishMenuItemUpdatedEvent(savedItem);
+
+    return savedItem;
   }
 
   @Override
@@ -84,7 +128,13 @@ public class MenuItemService
             available,
             menuItem.imageUrl());
 
-    return menuItemRepository.save(updatedItem);
+    MenuItem savedItem = menuItemRepository.save(updatedItem);
+    menuSnapshot.invalidate();
+    searchIndex.put(savedItem);
+
+    menuEventPublisher.publishMenuItemUpdatedEvent(savedItem);
+
+    return savedItem;
   }
 
   @Override
@@ -96,5 +146,9 @@ public class MenuItemService
         .orElseThrow(() -> new IllegalArgumentException("Menu item not found with id: " + id));
 
     menuItemRepository.deleteById(id);
+    menuSnapshot.invalidate();
+    searchIndex.remove(id);
+
+    menuEventPublisher.publishMenuItemDeletedEvent(id);
   }
 }
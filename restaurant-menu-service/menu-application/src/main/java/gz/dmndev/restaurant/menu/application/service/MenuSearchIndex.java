@@ -0,0 +1,242 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory inverted index over the searchable text of menu items: name, description, tags and
+ * allergens.
+ *
+ * <p>Terms are kept sorted so a query term matches every indexed term it is a prefix of, which
+ * suits search-as-you-type. All query terms must match (AND). Results are ordered by relevance:
+ * matches in the name weigh more than matches in tags, which weigh more than matches in the
+ * description or allergens, and a whole-word match counts double a prefix match.
+ *
+ * <p>{@link MenuItemService} keeps the index current as items are written. It is loaded from the
+ * repository on first use and reloaded after a category change, which is embedded in the indexed
+ * items, and once it reaches its maximum age, to pick up writes made by other instances.
+ */
+@Component
+public class MenuSearchIndex {
+
+  private static final int NAME_WEIGHT = 8;
+  private static final int TAG_WEIGHT = 4;
+  private static final int DESCRIPTION_WEIGHT = 2;
+  private static final int ALLERGEN_WEIGHT = 1;
+
+  private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+  private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+  private final MenuItemRepositoryPort menuItemRepository;
+  private final long maxAgeNanos;
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+  // term -> item id -> weight of the term in the item
+  private final TreeMap<String, Map<String, Integer>> postings = new TreeMap<>();
+  private final Map<String, Set<String>> termsByItem = new HashMap<>();
+  private final Map<String, MenuItem> items = new HashMap<>();
+  private boolean loaded;
+  private long loadedAt;
+
+  public MenuSearchIndex(
+      MenuItemRepositoryPort menuItemRepository,
+      @Value("${restaurant.menu.search.max-age:5m}") Duration maxAge) {
+    this.menuItemRepository = menuItemRepository;
+    this.maxAgeNanos = maxAge.toNanos();
+  }
+
+  /**
+   * Find the menu items matching every term of a query.
+   *
+   * @return the matching items, most relevant first
+   */
+  public List<MenuItem> search(String query) {
+    List<String> queryTerms = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+    if (queryTerms.isEmpty()) {
+      return List.of();
+    }
+
+    ensureLoaded();
+    lock.readLock().lock();
+    try {
+      Map<String, Integer> scores = null;
+      for (String queryTerm : queryTerms) {
+        Map<String, Integer> termScores = matches(queryTerm);
+        if (scores == null) {
+          scores = termScores;
+        } else {
+          scores.keySet().retainAll(termScores.keySet());
+          scores.replaceAll((itemId, score) -> score + termScores.get(itemId));
+        }
+        if (scores.isEmpty()) {
+          return List.of();
+        }
+      }
+
+      Map<String, Integer> relevance = scores;
+      return relevance.keySet().stream()
+          .map(items::get)
+          .sorted(
+              Comparator.comparing((MenuItem item) -> relevance.get(item.id()))
+                  .reversed()
+                  .thenComparing(MenuItem::name, Comparator.nullsLast(Comparator.naturalOrder())))
+          .toList();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /** Add a menu item to the index, replacing its previous entry. */
+  public void put(MenuItem menuItem) {
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        add(menuItem);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Remove a menu item from the index. */
+  public void remove(String menuItemId) {
+    lock.writeLock().lock();
+    try {
+      if (loaded) {
+        unindex(menuItemId);
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /** Reload the whole index on next use. */
+  public void invalidate() {
+    lock.writeLock().lock();
+    try {
+      loaded = false;
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private void ensureLoaded() {
+    lock.readLock().lock();
+    try {
+      if (isFresh()) {
+        return;
+      }
+    } finally {
+      lock.readLock().unlock();
+    }
+
+    lock.writeLock().lock();
+    try {
+      if (!isFresh()) {
+        postings.clear();
+        termsByItem.clear();
+        items.clear();
+        menuItemRepository.findAll().forEach(this::add);
+        loaded = true;
+        loadedAt = System.nanoTime();
+      }
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  private boolean isFresh() {
+    return loaded && System.nanoTime() - loadedAt < maxAgeNanos;
+  }
+
+  private Map<String, Integer> matches(String queryTerm) {
+    Map<String, Integer> scores = new HashMap<>();
+    // Every indexed term starting with the query term, found by a range scan of the sorted terms
+    postings
+        .subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false)
+        .forEach(
+            (term, weights) -> {
+              int factor = term.equals(queryTerm) ? 2 : 1;
+              weights.forEach((itemId, weight) -> scores.merge(itemId, weight * factor, Math::max));
+            });
+    return scores;
+  }
+
+  private void add(MenuItem menuItem) {
+    unindex(menuItem.id());
+
+    Map<String, Integer> weights = new HashMap<>();
+    addTerms(weights, menuItem.name(), NAME_WEIGHT);
+    addTerms(weights, menuItem.description(), DESCRIPTION_WEIGHT);
+    addTerms(weights, menuItem.tags(), TAG_WEIGHT);
+    addTerms(weights, menuItem.allergens(), ALLERGEN_WEIGHT);
+
+    weights.forEach(
+        (term, weight) ->
+            postings.computeIfAbsent(term, t -> new HashMap<>()).put(menuItem.id(), weight));
+    termsByItem.put(menuItem.id(), weights.keySet());
+    items.put(menuItem.id(), menuItem);
+  }
+
+  private void unindex(String menuItemId) {
+    Set<String> terms = termsByItem.remove(menuItemId);
+    if (terms == null) {
+      return;
+    }
+    for (String term : terms) {
+      Map<String, Integer> termPostings = postings.get(term);
+      termPostings.remove(menuItemId);
+      if (termPostings.isEmpty()) {
+        postings.remove(term);
+      }
+    }
+    items.remove(menuItemId);
+  }
+
+  private static void addTerms(Map<String, Integer> weights, List<String> values, int weight) {
+    if (values != null) {
+      values.forEach(value -> addTerms(weights, value, weight));
+    }
+  }
+
+  private static void addTerms(Map<String, Integer> weights, String text, int weight) {
+    for (String term : tokenize(text)) {
+      weights.merge(term, weight, Integer::sum);
+    }
+  }
+
+  // Lower-cased, accent-free words, so "Jalapeño" is found by "jalapeno"
+  static List<String> tokenize(String text) {
+    if (text == null || text.isBlank()) {
+      return List.of();
+    }
+    String normalized =
+        DIACRITICS
+            .matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+            .replaceAll("")
+            .toLowerCase(Locale.ROOT);
+    List<String> terms = new ArrayList<>();
+    for (String term : SEPARATORS.split(normalized)) {
+      if (!term.isEmpty()) {
+        terms.add(term);
+      }
+    }
+    return terms;
+  }
+}
@@ -0,0 +1,83 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuSnapshotUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
+import gz.dmndev.restaurant.menu.application.port.out.CategoryRepositoryPort;
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Serves the menu from an in-memory snapshot. Writes through {@link MenuItemService} and {@link
+ * CategoryService} invalidate it and the next read rebuilds it, so a burst of writes costs a single
+ * reload. Writes made by other instances are picked up once the snapshot reaches its maximum age.
+ */
+@Service
+public class MenuSnapshotService implements GetMenuSnapshotUseCase {
+
+  private final MenuItemRepositoryPort menuItemRepository;
+  private final CategoryRepositoryPort categoryRepository;
+  private final long maxAgeNanos;
+
+  private final AtomicLong generation = new AtomicLong();
+  private volatile Loaded current;
+
+  public MenuSnapshotService(
+      MenuItemRepositoryPort menuItemRepository,
+      CategoryRepositoryPort categoryRepository,
+      @Value("${restaurant.menu.snapshot.max-age:30s}") Duration maxAge) {
+    this.menuItemRepository = menuItemRepository;
+    this.categoryRepository = categoryRepository;
+    this.maxAgeNanos = maxAge.toNanos();
+  }
+
+  @Override
+  public MenuSnapshot getMenuSnapshot() {
+    return load().snapshot();
+  }
+
+  /** Index for filtering the menu items of the current snapshot by tags and allergens. */
+  public MenuItemFilterIndex getFilterIndex() {
+    return load().filterIndex();
+  }
+
+  private Loaded load() {
+    Loaded loaded = current;
+    if (isCurrent(loaded)) {
+      return loaded;
+    }
+
+    synchronized (this) {
+      loaded = current;
+      if (isCurrent(loaded)) {
+        return loaded;
+      }
+      // A write during the reload moves the generation on, so this snapshot is not served again
+      long loadedGeneration = generation.get();
+      MenuSnapshot snapshot =
+          MenuSnapshot.of(menuItemRepository.findAll(), categoryRepository.findAll());
+      current =
+          new Loaded(
+              snapshot,
+              new MenuItemFilterIndex(snapshot.menuItems()),
+              loadedGeneration,
+              System.nanoTime());
+      return current;
+    }
+  }
+
+  public void invalidate() {
+    generation.incrementAndGet();
+  }
+
+  private boolean isCurrent(Loaded loaded) {
+    return loaded != null
+        && loaded.generation() == generation.get()
+        && System.nanoTime() - loaded.loadedAt() < maxAgeNanos;
+  }
+
+  private record Loaded(
+      MenuSnapshot snapshot, MenuItemFilterIndex filterIndex, long generation, long loadedAt) {}
+}
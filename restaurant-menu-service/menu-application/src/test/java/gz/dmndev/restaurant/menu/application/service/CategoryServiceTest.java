@@ -6,7 +6,6 @@ import static org.mockito.Mockito.*;
 import gz.dmndev.restaurant.menu.application.port.out.CategoryRepositoryPort;
 import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
 import gz.dmndev.restaurant.menu.domain.model.Category;
-import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +24,10 @@ class CategoryServiceTest {
 
   @Mock private MenuItemRepositoryPort menuItemRepository;
 
+  @Mock private MenuSnapshotService menuSnapshot;
+
+  @Mock private MenuSearchIndex searchIndex;
+
   @InjectMocks private CategoryService categoryService;
 
   private Category category;
@@ -52,6 +55,8 @@ class CategoryServiceTest {
     // Assert
     assertEquals(category, result);
     verify(categoryRepository).save(category);
+    verify(menuSnapshot).invalidate();
+    verify(searchIndex).invalidate();
   }
 
   @Test
@@ -178,13 +183,14 @@ class CategoryServiceTest {
   void deleteCategory_WhenExistsAndNoItems_ShouldDelete() {
     // Arrange
     when(categoryRepository.findById("category-1")).thenReturn(Optional.of(category));
-    when(menuItemRepository.findByCategoryId("category-1")).thenReturn(Collections.emptyList());
+    when(menuItemRepository.existsByCategoryId("category-1")).thenReturn(false);
 
     // Act
     categoryService.deleteCategory("category-1");
 
     // Assert
     verify(categoryRepository).deleteById("category-1");
+    verify(menuItemRepository, never()).findByCategoryId(anyString());
   }
 
   @Test
@@ -202,8 +208,7 @@ class CategoryServiceTest {
   void deleteCategory_WhenHasItems_ShouldThrowException() {
     // Arrange
     when(categoryRepository.findById("category-1")).thenReturn(Optional.of(category));
-    when(menuItemRepository.findByCategoryId("category-1"))
-        .thenReturn(Collections.singletonList(MenuItem.builder().id("item-1").build()));
+    when(menuItemRepository.existsByCategoryId("category-1")).thenReturn(true);
 
     // Act & Assert
     assertThrows(IllegalStateException.class, () -> categoryService.deleteCategory("category-1"));
@@ -0,0 +1,173 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.ImportProgress;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.ImportResult;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.MalformedImportException;
+import gz.dmndev.restaurant.menu.application.port.out.CategoryRepositoryPort;
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MenuImportServiceTest {
+
+  @Mock private MenuItemRepositoryPort menuItemRepository;
+
+  @Mock private CategoryRepositoryPort categoryRepository;
+
+  @Mock private MenuSnapshotService menuSnapshot;
+
+  @Mock private MenuSearchIndex searchIndex;
+
+  private MenuImportService menuImportService;
+
+  private Category category;
+
+  @BeforeEach
+  void setUp() {
+    menuImportService =
+        new MenuImportService(menuItemRepository, categoryRepository, menuSnapshot, searchIndex, 2);
+
+    category = Category.builder().id("category-1").name("Drinks").active(true).build();
+  }
+
+  @Test
+  void importMenuItems_ShouldWriteValidItemsInChunks() {
+    // Arrange
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+    List<Integer> chunkSizes = new ArrayList<>();
+    when(menuItemRepository.insertAll(anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<MenuItem> chunk = invocation.getArgument(0);
+              chunkSizes.add(chunk.size());
+              assertTrue(chunk.stream().allMatch(item -> item.category() == category));
+              return chunk.size();
+            });
+
+    List<MenuItem> items =
+        List.of(item("Lemonade"), item("Iced Tea"), item("Cola"), item("Water"), item("Juice"));
+    List<ImportProgress> progress = new ArrayList<>();
+
+    // Act
+    ImportResult result = menuImportService.importMenuItems(items.iterator(), progress::add);
+
+    // Assert
+    assertEquals(5, result.imported());
+    assertEquals(0, result.rejected());
+    assertEquals(List.of(2, 2, 1), chunkSizes);
+    assertEquals(new ImportProgress(3, 5, 0), progress.get(2));
+    assertNull(result.parseError());
+    verify(categoryRepository, times(1)).findAll();
+    verify(menuSnapshot).invalidate();
+    verify(searchIndex).invalidate();
+  }
+
+  @Test
+  void importMenuItems_ShouldRejectInvalidItems() {
+    // Arrange
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+    when(menuItemRepository.insertAll(anyList())).thenReturn(1);
+
+    MenuItem unknownCategory =
+        MenuItem.builder()
+            .name("Soup")
+            .price(new BigDecimal("4.50"))
+            .category(Category.builder().id("category-9").build())
+            .build();
+    MenuItem negativePrice =
+        MenuItem.builder().name("Cola").price(new BigDecimal("-1")).category(category).build();
+    MenuItem noName = MenuItem.builder().price(BigDecimal.ONE).category(category).build();
+
+    // Act
+    ImportResult result =
+        menuImportService.importMenuItems(
+            List.of(unknownCategory, item("Lemonade"), negativePrice, noName).iterator(),
+            progress -> {});
+
+    // Assert
+    assertEquals(1, result.imported());
+    assertEquals(3, result.rejected());
+    assertEquals(
+        List.of(
+            "Item 1: Category not found with id: category-9",
+            "Item 3: Price must be greater than or equal to zero",
+            "Item 4: Name is required"),
+        result.errors());
+  }
+
+  @Test
+  void importMenuItems_WhenItemIsMalformed_ShouldKeepItemsReadBeforeIt() {
+    // Arrange
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+    when(menuItemRepository.insertAll(anyList()))
+        .thenAnswer(invocation -> invocation.<List<MenuItem>>getArgument(0).size());
+    Iterator<MenuItem> items =
+        new Iterator<>() {
+          private final Iterator<MenuItem> readable =
+              List.of(item("Lemonade"), item("Iced Tea"), item("Cola")).iterator();
+
+          @Override
+          public boolean hasNext() {
+            if (!readable.hasNext()) {
+              throw new MalformedImportException("Malformed menu item at line 4, column 12");
+            }
+            return true;
+          }
+
+          @Override
+          public MenuItem next() {
+            hasNext();
+            return readable.next();
+          }
+        };
+
+    // Act
+    ImportResult result = menuImportService.importMenuItems(items, progress -> {});
+
+    // Assert
+    assertEquals(3, result.imported());
+    assertEquals(0, result.rejected());
+    assertEquals("Item 4: Malformed menu item at line 4, column 12", result.parseError());
+    verify(menuItemRepository, times(2)).insertAll(anyList());
+    verify(menuSnapshot).invalidate();
+    verify(searchIndex).invalidate();
+  }
+
+  @Test
+  void importMenuItems_WhenNothingWritten_ShouldKeepCachedMenu() {
+    // Arrange
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+
+    // Act
+    ImportResult result =
+        menuImportService.importMenuItems(List.<MenuItem>of().iterator(), progress -> {});
+
+    // Assert
+    assertEquals(0, result.imported());
+    verify(menuItemRepository, never()).insertAll(anyList());
+    verifyNoInteractions(menuSnapshot, searchIndex);
+  }
+
+  private MenuItem item(String name) {
+    return MenuItem.builder()
+        .name(name)
+        .price(new BigDecimal("2.99"))
+        .category(Category.builder().id("category-1").build())
+        .available(true)
+        .build();
+  }
+}
@@ -0,0 +1,100 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase.MenuItemFilter;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MenuItemFilterIndexTest {
+
+  private MenuItem salad;
+  private MenuItem padThai;
+  private MenuItem burger;
+  private MenuItemFilterIndex index;
+
+  @BeforeEach
+  void setUp() {
+    Category mains = Category.builder().id("category-1").name("Mains").build();
+    Category sides = Category.builder().id("category-2").name("Sides").build();
+
+    salad =
+        MenuItem.builder()
+            .id("item-1")
+            .name("Garden Salad")
+            .category(sides)
+            .tags(List.of("vegan", "vegetarian"))
+            .allergens(List.of())
+            .build();
+    padThai =
+        MenuItem.builder()
+            .id("item-2")
+            .name("Pad Thai")
+            .category(mains)
+            .tags(List.of("Vegan", "spicy"))
+            .allergens(List.of("nuts", "soy"))
+            .build();
+    burger =
+        MenuItem.builder()
+            .id("item-3")
+            .name("Burger")
+            .category(mains)
+            .tags(List.of("bestseller"))
+            .allergens(List.of("gluten", "dairy"))
+            .build();
+
+    index = new MenuItemFilterIndex(List.of(salad, padThai, burger));
+  }
+
+  @Test
+  void filter_ShouldRequireTagsAndExcludeAllergens() {
+    // Act & Assert
+    assertEquals(
+        List.of(salad, padThai),
+        index.filter(new MenuItemFilter(null, Set.of("VEGAN"), null, null)));
+    assertEquals(
+        List.of(salad),
+        index.filter(new MenuItemFilter(null, Set.of("vegan"), null, Set.of("gluten", "nuts"))));
+    assertEquals(
+        List.of(salad, burger),
+        index.filter(new MenuItemFilter(null, null, Set.of("spicy"), null)));
+  }
+
+  @Test
+  void filter_ShouldHandleUnknownValuesAndCategory() {
+    // Act & Assert
+    assertTrue(index.filter(new MenuItemFilter(null, Set.of("halal"), null, null)).isEmpty());
+    assertEquals(
+        List.of(salad, padThai, burger),
+        index.filter(new MenuItemFilter(null, null, null, Set.of("shellfish"))));
+    assertEquals(
+        List.of(padThai, burger), index.filter(new MenuItemFilter("category-1", null, null, null)));
+  }
+
+  @Test
+  void filter_ShouldSupportVocabulariesWiderThanOneWord() {
+    // Arrange
+    List<MenuItem> items = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      items.add(
+          MenuItem.builder()
+              .id("item-" + i)
+              .tags(List.of("tag-" + i))
+              .allergens(List.of("allergen-" + i))
+              .build());
+    }
+    MenuItemFilterIndex wideIndex = new MenuItemFilterIndex(items);
+
+    // Act & Assert
+    assertEquals(
+        List.of(items.get(99)),
+        wideIndex.filter(new MenuItemFilter(null, Set.of("tag-99"), null, null)));
+    assertEquals(
+        99, wideIndex.filter(new MenuItemFilter(null, null, null, Set.of("allergen-70"))).size());
+  }
+}
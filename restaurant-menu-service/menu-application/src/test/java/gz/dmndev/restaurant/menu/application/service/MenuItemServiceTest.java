@@ -3,6 +3,10 @@ package gz.dmndev.restaurant.menu.application.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase.MenuItemFilter;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
+import gz.dmndev.restaurant.menu.application.port.out.MenuEventPublisherPort;
 import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
@@ -11,6 +15,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +28,12 @@ class MenuItemServiceTest {
 
   @Mock private MenuItemRepositoryPort menuItemRepository;
 
+  @Mock private MenuEventPublisherPort menuEventPublisher;
+
+  @Mock private MenuSnapshotService menuSnapshot;
+
+  @Mock private MenuSearchIndex searchIndex;
+
   @InjectMocks private MenuItemService menuItemService;
 
   private MenuItem menuItem;
@@ -64,6 +75,9 @@ class MenuItemServiceTest {
     // Assert
     assertEquals(menuItem, result);
     verify(menuItemRepository).save(menuItem);
+    verify(searchIndex).put(menuItem);
+    // A new id cannot be in any order-service cache yet
+    verifyNoInteractions(menuEventPublisher);
   }
 
   @Test
@@ -114,6 +128,31 @@ class MenuItemServiceTest {
     assertEquals(menuItems, result);
   }
 
+  @Test
+  void getMenuItemsByIds_ShouldQueryRepositoryOnce() {
+    // Arrange
+    List<String> ids = List.of("item-1", "item-2");
+    when(menuItemRepository.findAllByIds(ids)).thenReturn(Collections.singletonList(menuItem));
+
+    // Act
+    List<MenuItem> result = menuItemService.getMenuItemsByIds(ids);
+
+    // Assert
+    assertEquals(1, result.size());
+    assertEquals(menuItem, result.get(0));
+    verify(menuItemRepository, times(1)).findAllByIds(ids);
+  }
+
+  @Test
+  void getMenuItemsByIds_WhenNoIds_ShouldNotQueryRepository() {
+    // Act
+    List<MenuItem> result = menuItemService.getMenuItemsByIds(List.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(menuItemRepository);
+  }
+
   @Test
   void getMenuItemsByCategory_ShouldReturnCategoryItems() {
     // Arrange
@@ -131,8 +170,7 @@ class MenuItemServiceTest {
   @Test
   void searchMenuItems_ShouldReturnMatchingItems() {
     // Arrange
-    when(menuItemRepository.findByNameContaining("Spring"))
-        .thenReturn(Collections.singletonList(menuItem));
+    when(searchIndex.search("Spring")).thenReturn(Collections.singletonList(menuItem));
 
     // Act
     List<MenuItem> result = menuItemService.searchMenuItems("Spring");
@@ -142,6 +180,46 @@ class MenuItemServiceTest {
     assertEquals(menuItem, result.get(0));
   }
 
+  @Test
+  void filterMenuItems_ShouldUseSnapshotFilterIndex() {
+    // Arrange
+    MenuItemFilter filter = new MenuItemFilter(null, Set.of("vegetarian"), null, null);
+    when(menuSnapshot.getFilterIndex()).thenReturn(new MenuItemFilterIndex(List.of(menuItem)));
+
+    // Act
+    List<MenuItem> result = menuItemService.filterMenuItems(filter);
+
+    // Assert
+    assertEquals(List.of(menuItem), result);
+    verifyNoInteractions(menuItemRepository);
+  }
+
+  @Test
+  void getMenuItemPage_ShouldDelegateToRepository() {
+    // Arrange
+    Set<MenuItemField> fields = Set.of(MenuItemField.ID, MenuItemField.NAME);
+    MenuItemPage page = new MenuItemPage(List.of(menuItem), 0, 20, 1);
+    when(menuItemRepository.findPage("category-1", fields, 0, 20)).thenReturn(page);
+
+    // Act
+    MenuItemPage result = menuItemService.getMenuItemPage("category-1", fields, 0, 20);
+
+    // Assert
+    assertEquals(page, result);
+  }
+
+  @Test
+  void getMenuItemPage_WhenSizeTooLarge_ShouldThrowException() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> menuItemService.getMenuItemPage(null, Set.of(), 0, 1000));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> menuItemService.getMenuItemPage(null, Set.of(), -1, 20));
+    verifyNoInteractions(menuItemRepository);
+  }
+
   @Test
   void updateMenuItem_WhenExists_ShouldUpdateAndReturn() {
     // Arrange
@@ -164,6 +242,7 @@ class MenuItemServiceTest {
     // Act & Assert
     assertThrows(IllegalArgumentException.class, () -> menuItemService.updateMenuItem(menuItem));
     verify(menuItemRepository, never()).save(any());
+    verifyNoInteractions(menuEventPublisher);
   }
 
   @Test
@@ -192,6 +271,7 @@ class MenuItemServiceTest {
     // Assert
     assertFalse(result.available());
     verify(menuItemRepository).save(any(MenuItem.class));
+    verify(menuEventPublisher).publishMenuItemUpdatedEvent(updatedItem);
   }
 
   @Test
@@ -216,6 +296,9 @@ class MenuItemServiceTest {
 
     // Assert
     verify(menuItemRepository).deleteById("item-1");
+    verify(menuSnapshot).invalidate();
+    verify(searchIndex).remove("item-1");
+    verify(menuEventPublisher).publishMenuItemDeletedEvent("item-1");
   }
 
   @Test
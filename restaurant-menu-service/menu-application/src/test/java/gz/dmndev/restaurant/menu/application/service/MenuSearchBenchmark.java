@@ -0,0 +1,119 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares {@link MenuSearchIndex} with the search it replaced: {@code findByNameContaining}, which
+ * Spring Data turns into a case-insensitive {@code $regex} on the name. No index can serve that
+ * regex, so MongoDB scans the collection and runs the pattern against every name; {@link
+ * #regexScan} does the same in memory. It leaves out the round trip and the document decoding, so
+ * it understates the cost of the MongoDB query.
+ *
+ * <p>Run {@link #main} from the IDE, or with the test classpath on the command line.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MenuSearchBenchmark {
+
+  private static final String[] DISHES = {
+    "Chicken", "Salad", "Burger", "Pizza", "Soup", "Curry", "Noodles", "Tacos", "Risotto", "Wrap"
+  };
+  private static final String[] STYLES = {
+    "Spicy", "Grilled", "Crispy", "Smoked", "Roasted", "Classic", "Garden", "Thai", "Sicilian"
+  };
+  private static final String[] TAGS = {
+    "vegetarian", "vegan", "spicy", "gluten-free", "popular", "new", "kids"
+  };
+
+  @Param({"1000"})
+  public int menuSize;
+
+  @Param({"chicken", "sal", "spicy vegetarian"})
+  public String query;
+
+  private MenuSearchIndex searchIndex;
+  private List<MenuItem> menuItems;
+  private Pattern namePattern;
+
+  @Setup
+  public void setUp() {
+    Random random = new Random(42);
+    Category category = Category.builder().id("category-1").name("Mains").build();
+    menuItems = new ArrayList<>(menuSize);
+    for (int i = 0; i < menuSize; i++) {
+      String style = STYLES[random.nextInt(STYLES.length)];
+      String dish = DISHES[random.nextInt(DISHES.length)];
+      menuItems.add(
+          MenuItem.builder()
+              .id("item-" + i)
+              .name(style + " " + dish + " " + i)
+              .description(
+                  style + " " + dish.toLowerCase(Locale.ROOT) + " served with seasonal sides")
+              .price(new BigDecimal("9.50"))
+              .category(category)
+              .tags(List.of(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)]))
+              .allergens(List.of("gluten"))
+              .available(true)
+              .build());
+    }
+
+    MenuItemRepositoryPort repository = mock(MenuItemRepositoryPort.class);
+    when(repository.findAll()).thenReturn(menuItems);
+    searchIndex = new MenuSearchIndex(repository, Duration.ofDays(1));
+    searchIndex.search(query);
+
+    namePattern = Pattern.compile(Pattern.quote(query), Pattern.CASE_INSENSITIVE);
+  }
+
+  @Benchmark
+  public List<MenuItem> searchIndex() {
+    return searchIndex.search(query);
+  }
+
+  @Benchmark
+  public List<MenuItem> regexScan() {
+    List<MenuItem> matches = new ArrayList<>();
+    for (MenuItem item : menuItems) {
+      if (namePattern.matcher(item.name()).find()) {
+        matches.add(item);
+      }
+    }
+    return matches;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MenuSearchBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -0,0 +1,132 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexTest {
+
+  @Mock private MenuItemRepositoryPort menuItemRepository;
+
+  private MenuSearchIndex searchIndex;
+
+  private MenuItem springRolls;
+  private MenuItem jalapenoPoppers;
+  private MenuItem lemonade;
+
+  @BeforeEach
+  void setUp() {
+    searchIndex = new MenuSearchIndex(menuItemRepository, Duration.ofMinutes(5));
+
+    Category category = Category.builder().id("category-1").name("Appetizers").build();
+
+    springRolls =
+        MenuItem.builder()
+            .id("item-1")
+            .name("Spring Rolls")
+            .description("Vegetable rolls with sweet chili sauce")
+            .price(new BigDecimal("5.99"))
+            .category(category)
+            .tags(List.of("vegetarian"))
+            .allergens(List.of("gluten"))
+            .available(true)
+            .build();
+
+    jalapenoPoppers =
+        MenuItem.builder()
+            .id("item-2")
+            .name("Jalapeño Poppers")
+            .description("Stuffed with cheese, served with spring onion dip")
+            .price(new BigDecimal("6.49"))
+            .category(category)
+            .tags(List.of("spicy", "vegetarian"))
+            .allergens(List.of("dairy", "gluten"))
+            .available(true)
+            .build();
+
+    lemonade =
+        MenuItem.builder()
+            .id("item-3")
+            .name("Lemonade")
+            .description("Freshly squeezed")
+            .price(new BigDecimal("2.99"))
+            .category(category)
+            .tags(List.of("drink"))
+            .available(true)
+            .build();
+  }
+
+  @Test
+  void search_ShouldMatchPrefixesAcrossFields() {
+    // Arrange
+    when(menuItemRepository.findAll()).thenReturn(List.of(springRolls, jalapenoPoppers, lemonade));
+
+    // Act & Assert
+    assertEquals(List.of(lemonade), searchIndex.search("lem"));
+    assertEquals(List.of(jalapenoPoppers), searchIndex.search("dairy"));
+    assertEquals(List.of(jalapenoPoppers), searchIndex.search("JALAPENO"));
+    assertEquals(List.of(jalapenoPoppers, springRolls), searchIndex.search("veg"));
+  }
+
+  @Test
+  void search_ShouldRequireAllTermsAndRankNameMatchesFirst() {
+    // Arrange
+    when(menuItemRepository.findAll()).thenReturn(List.of(springRolls, jalapenoPoppers, lemonade));
+
+    // Act & Assert
+    assertEquals(List.of(springRolls, jalapenoPoppers), searchIndex.search("spring"));
+    assertEquals(List.of(jalapenoPoppers), searchIndex.search("spring cheese"));
+    assertTrue(searchIndex.search("spring lemon").isEmpty());
+    assertTrue(searchIndex.search("  ").isEmpty());
+  }
+
+  @Test
+  void search_ShouldLoadOnceAndFollowIncrementalUpdates() {
+    // Arrange
+    when(menuItemRepository.findAll()).thenReturn(List.of(springRolls));
+    searchIndex.search("spring");
+    MenuItem renamed =
+        MenuItem.builder().id("item-1").name("Summer Rolls").price(springRolls.price()).build();
+
+    // Act
+    searchIndex.put(renamed);
+    searchIndex.put(lemonade);
+
+    // Assert
+    assertTrue(searchIndex.search("spring rolls").isEmpty());
+    assertEquals(List.of(renamed), searchIndex.search("summer"));
+    assertEquals(List.of(lemonade), searchIndex.search("lemonade"));
+
+    searchIndex.remove("item-3");
+    assertTrue(searchIndex.search("lemonade").isEmpty());
+    verify(menuItemRepository, times(1)).findAll();
+  }
+
+  @Test
+  void invalidate_ShouldReloadFromRepository() {
+    // Arrange
+    when(menuItemRepository.findAll())
+        .thenReturn(List.of(springRolls))
+        .thenReturn(List.of(springRolls, lemonade));
+    searchIndex.search("spring");
+
+    // Act
+    searchIndex.invalidate();
+
+    // Assert
+    assertEquals(List.of(lemonade), searchIndex.search("lemonade"));
+    verify(menuItemRepository, times(2)).findAll();
+  }
+}
@@ -0,0 +1,116 @@
+package gz.dmndev.restaurant.menu.application.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
+import gz.dmndev.restaurant.menu.application.port.out.CategoryRepositoryPort;
+import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSnapshotServiceTest {
+
+  @Mock private MenuItemRepositoryPort menuItemRepository;
+
+  @Mock private CategoryRepositoryPort categoryRepository;
+
+  private MenuSnapshotService menuSnapshotService;
+
+  private Category category;
+  private MenuItem menuItem;
+
+  @BeforeEach
+  void setUp() {
+    menuSnapshotService =
+        new MenuSnapshotService(menuItemRepository, categoryRepository, Duration.ofMinutes(5));
+
+    category = Category.builder().id("category-1").name("Appetizers").active(true).build();
+
+    menuItem =
+        MenuItem.builder()
+            .id("item-1")
+            .name("Spring Rolls")
+            .price(new BigDecimal("5.99"))
+            .category(category)
+            .available(true)
+            .build();
+  }
+
+  @Test
+  void getMenuSnapshot_ShouldLoadOnceAndServeFromMemory() {
+    // Arrange
+    when(menuItemRepository.findAll()).thenReturn(List.of(menuItem));
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+
+    // Act
+    MenuSnapshot first = menuSnapshotService.getMenuSnapshot();
+    MenuSnapshot second = menuSnapshotService.getMenuSnapshot();
+
+    // Assert
+    assertSame(first, second);
+    assertEquals(List.of(menuItem), first.menuItems());
+    verify(menuItemRepository, times(1)).findAll();
+    verify(categoryRepository, times(1)).findAll();
+  }
+
+  @Test
+  void getMenuSnapshot_AfterInvalidate_ShouldReloadWithNewVersion() {
+    // Arrange
+    MenuItem renamedItem =
+        MenuItem.builder()
+            .id("item-1")
+            .name("Crispy Spring Rolls")
+            .price(new BigDecimal("5.99"))
+            .category(category)
+            .available(true)
+            .build();
+    when(menuItemRepository.findAll()).thenReturn(List.of(menuItem), List.of(renamedItem));
+    when(categoryRepository.findAll()).thenReturn(List.of(category));
+
+    // Act
+    MenuSnapshot before = menuSnapshotService.getMenuSnapshot();
+    menuSnapshotService.invalidate();
+    MenuSnapshot after = menuSnapshotService.getMenuSnapshot();
+
+    // Assert
+    assertNotEquals(before.menuItemsVersion(), after.menuItemsVersion());
+    assertEquals(before.categoriesVersion(), after.categoriesVersion());
+    assertEquals(List.of(renamedItem), after.menuItems());
+  }
+
+  @Test
+  void menuSnapshot_WithSameContent_ShouldHaveSameVersion() {
+    // Act
+    MenuSnapshot first = MenuSnapshot.of(List.of(menuItem), List.of(category));
+    MenuSnapshot second = MenuSnapshot.of(List.of(menuItem), List.of(category));
+
+    // Assert
+    assertEquals(first.menuItemsVersion(), second.menuItemsVersion());
+    assertEquals(first.categoriesVersion(), second.categoriesVersion());
+  }
+
+  @Test
+  void menuSnapshot_ShouldFilterByCategory() {
+    // Arrange
+    Category drinks = Category.builder().id("category-2").name("Drinks").active(false).build();
+    MenuItem lemonade =
+        MenuItem.builder().id("item-2").name("Lemonade").category(drinks).available(true).build();
+
+    // Act
+    MenuSnapshot snapshot = MenuSnapshot.of(List.of(menuItem, lemonade), List.of(category, drinks));
+
+    // Assert
+    assertEquals(List.of(lemonade), snapshot.menuItemsByCategory("category-2"));
+    assertEquals(List.of(category), snapshot.activeCategories());
+  }
+}
@@ -2,6 +2,7 @@ package gz.dmndev.restaurant.menu.boot;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import gz.dmndev.restaurant.menu.application.port.out.MenuEventPublisherPort;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.CategoryRequest;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.CategoryResponse;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemRequest;
@@ -23,6 +24,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -40,6 +42,8 @@ class MenuServiceIT {
     registry.add("spring.data.mongodb.database", () -> "testdb");
   }
 
+  @MockitoBean private MenuEventPublisherPort menuEventPublisher;
+
   @LocalServerPort private int port;
 
   @Autowired private TestRestTemplate restTemplate;
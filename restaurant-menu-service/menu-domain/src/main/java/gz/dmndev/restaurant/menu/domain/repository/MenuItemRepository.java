@@ -1,6 +1,7 @@
 package gz.dmndev.restaurant.menu.domain.repository;
 
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,9 +12,13 @@ public interface MenuItemRepository {
 
   List<MenuItem> findAll();
 
+  List<MenuItem> findAllByIds(Collection<String> ids);
+
   List<MenuItem> findByCategoryId(String categoryId);
 
   List<MenuItem> findByNameContaining(String name);
 
+  boolean existsByCategoryId(String categoryId);
+
   void deleteById(String id);
 }
@@ -3,6 +3,8 @@ package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest;
 import gz.dmndev.restaurant.menu.application.port.in.CreateCategoryUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.DeleteCategoryUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.GetCategoryUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuSnapshotUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
 import gz.dmndev.restaurant.menu.application.port.in.UpdateCategoryUseCase;
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.CategoryRequest;
@@ -11,11 +13,14 @@ import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper.CategoryR
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/categories")
@@ -25,6 +30,7 @@ public class CategoryController {
 
   private final CreateCategoryUseCase createCategoryUseCase;
   private final GetCategoryUseCase getCategoryUseCase;
+  private final GetMenuSnapshotUseCase getMenuSnapshotUseCase;
   private final UpdateCategoryUseCase updateCategoryUseCase;
   private final DeleteCategoryUseCase deleteCategoryUseCase;
   private final CategoryRestMapper mapper;
@@ -48,19 +54,37 @@ public class CategoryController {
 
   @GetMapping
   public ResponseEntity<List<CategoryResponse>> getAllCategories(
-      @RequestParam(value = "active", required = false) Boolean active) {
+      @RequestParam(value = "active", required = false) Boolean active,
+      @RequestParam(value = "includeItemCounts", defaultValue = "false") boolean includeItemCounts,
+      WebRequest webRequest) {
+
+    MenuSnapshot snapshot = getMenuSnapshotUseCase.getMenuSnapshot();
+    // Item counts are taken from the same snapshot, so they change with its menu items version
+    String etag =
+        includeItemCounts
+            ? "\"" + snapshot.categoriesVersion() + "-" + snapshot.menuItemsVersion() + "\""
+            : "\"" + snapshot.categoriesVersion() + "\"";
+    if (webRequest.checkNotModified(etag)) {
+      return null;
+    }
 
     List<Category> categories;
     if (active != null && active) {
-      categories = getCategoryUseCase.getAllActiveCategories();
+      categories = snapshot.activeCategories();
     } else {
-      categories = getCategoryUseCase.getAllCategories();
+      categories = snapshot.categories();
     }
 
     List<CategoryResponse> response =
         categories.stream().map(mapper::toResponse).collect(Collectors.toList());
 
-    return ResponseEntity.ok(response);
+    if (includeItemCounts) {
+      Map<String, Long> itemCounts = snapshot.menuItemCountsByCategory();
+      response.forEach(
+          category -> category.setItemCount(itemCounts.getOrDefault(category.getId(), 0L)));
+    }
+
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
   }
 
   @PutMapping("/{id}")
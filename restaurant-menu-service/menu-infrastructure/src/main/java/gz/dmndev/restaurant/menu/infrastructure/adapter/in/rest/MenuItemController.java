@@ -1,22 +1,41 @@
 package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import gz.dmndev.restaurant.menu.application.port.in.CreateMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.DeleteMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase.MenuItemFilter;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuSnapshotUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.ImportResult;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
 import gz.dmndev.restaurant.menu.application.port.in.UpdateMenuItemUseCase;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuImportResponse;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemPageResponse;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemRequest;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemResponse;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper.MenuItemRestMapper;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+@Slf4j
 @RestController
 @RequestMapping("/menu-items")
 @RequiredArgsConstructor
@@ -25,9 +44,12 @@ public class MenuItemController {
 
   private final CreateMenuItemUseCase createMenuItemUseCase;
   private final GetMenuItemUseCase getMenuItemUseCase;
+  private final GetMenuSnapshotUseCase getMenuSnapshotUseCase;
+  private final ImportMenuItemsUseCase importMenuItemsUseCase;
   private final UpdateMenuItemUseCase updateMenuItemUseCase;
   private final DeleteMenuItemUseCase deleteMenuItemUseCase;
   private final MenuItemRestMapper mapper;
+  private final ObjectMapper objectMapper;
 
   @PostMapping
   public ResponseEntity<MenuItemResponse> createMenuItem(
@@ -49,21 +71,117 @@ public class MenuItemController {
   @GetMapping
   public ResponseEntity<List<MenuItemResponse>> getAllMenuItems(
       @RequestParam(value = "category", required = false) String categoryId,
-      @RequestParam(value = "search", required = false) String searchTerm) {
+      @RequestParam(value = "search", required = false) String searchTerm,
+      @RequestParam(value = "tags", required = false) Set<String> tags,
+      @RequestParam(value = "excludeTags", required = false) Set<String> excludedTags,
+      @RequestParam(value = "excludeAllergens", required = false) Set<String> excludedAllergens,
+      WebRequest webRequest) {
 
-    List<MenuItem> menuItems;
+    // e.g. ?tags=vegan&excludeAllergens=gluten,nuts
+    if (tags != null || excludedTags != null || excludedAllergens != null) {
+      MenuItemFilter filter = new MenuItemFilter(categoryId, tags, excludedTags, excludedAllergens);
+      return ResponseEntity.ok(
+          getMenuItemUseCase.filterMenuItems(filter).stream()
+              .map(mapper::toResponse)
+              .collect(Collectors.toList()));
+    }
+
+    // Search results are ranked by the search index rather than served from the snapshot
+    if (categoryId == null && searchTerm != null && !searchTerm.trim().isEmpty()) {
+      return ResponseEntity.ok(
+          getMenuItemUseCase.searchMenuItems(searchTerm).stream()
+              .map(mapper::toResponse)
+              .collect(Collectors.toList()));
+    }
 
-    if (categoryId != null) {
-      menuItems = getMenuItemUseCase.getMenuItemsByCategory(categoryId);
-    } else if (searchTerm != null && !searchTerm.trim().isEmpty()) {
-      menuItems = getMenuItemUseCase.searchMenuItems(searchTerm);
-    } else {
-      menuItems = getMenuItemUseCase.getAllMenuItems();
+    // Body and ETag come from the same snapshot; an unchanged menu is answered with a 304
+    MenuSnapshot snapshot = getMenuSnapshotUseCase.getMenuSnapshot();
+    String etag = "\"" + snapshot.menuItemsVersion() + "\"";
+    if (webRequest.checkNotModified(etag)) {
+      return null;
     }
 
+    List<MenuItem> menuItems =
+        categoryId != null ? snapshot.menuItemsByCategory(categoryId) : snapshot.menuItems();
+
     List<MenuItemResponse> response =
         menuItems.stream().map(mapper::toResponse).collect(Collectors.toList());
 
+    return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+  }
+
+  /**
+   * List menu items a page at a time. {@code fields} selects the fields of each item, e.g. {@code
+   * fields=id,name,price,available}; only those are read from the database.
+   */
+  @GetMapping("/page")
+  public ResponseEntity<MenuItemPageResponse> getMenuItemPage(
+      @RequestParam(value = "category", required = false) String categoryId,
+      @RequestParam(value = "fields", required = false) List<String> fieldNames,
+      @RequestParam(value = "page", defaultValue = "0") int page,
+      @RequestParam(value = "size", defaultValue = "20") int size) {
+
+    Set<MenuItemField> fields = EnumSet.noneOf(MenuItemField.class);
+    if (fieldNames != null) {
+      fieldNames.stream().map(String::trim).map(MenuItemField::fromFieldName).forEach(fields::add);
+    }
+
+    MenuItemPage menuItemPage = getMenuItemUseCase.getMenuItemPage(categoryId, fields, page, size);
+
+    MenuItemPageResponse response =
+        MenuItemPageResponse.builder()
+            .items(
+                menuItemPage.items().stream()
+                    .map(menuItem -> mapper.toResponse(menuItem, fields))
+                    .collect(Collectors.toList()))
+            .page(menuItemPage.page())
+            .size(menuItemPage.size())
+            .totalItems(menuItemPage.totalItems())
+            .totalPages(menuItemPage.totalPages())
+            .build();
+
+    return ResponseEntity.ok(response);
+  }
+
+  /**
+   * Import a menu as a JSON array of menu items. The body is read as a stream and written in
+   * chunks, so large menus are imported without holding them in memory. If an element cannot be
+   * parsed, the items before it stay imported and the response is 207 Multi-Status with the parse
+   * error and its position.
+   */
+  @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public ResponseEntity<MenuImportResponse> importMenuItems(InputStream body) throws IOException {
+    ImportResult result;
+    try (MenuItemImportReader reader = new MenuItemImportReader(objectMapper, mapper, body)) {
+      result =
+          importMenuItemsUseCase.importMenuItems(
+              reader,
+              progress ->
+                  log.info(
+                      "Menu import: {} chunks written, {} items imported, {} rejected",
+                      progress.chunks(),
+                      progress.imported(),
+                      progress.rejected()));
+    }
+
+    HttpStatus status = result.parseError() == null ? HttpStatus.OK : HttpStatus.MULTI_STATUS;
+    return ResponseEntity.status(status)
+        .body(
+            MenuImportResponse.builder()
+                .imported(result.imported())
+                .rejected(result.rejected())
+                .errors(result.errors())
+                .parseError(result.parseError())
+                .build());
+  }
+
+  @PostMapping("/batch")
+  public ResponseEntity<List<MenuItemResponse>> getMenuItemsByIds(@RequestBody List<String> ids) {
+    List<MenuItemResponse> response =
+        getMenuItemUseCase.getMenuItemsByIds(ids).stream()
+            .map(mapper::toResponse)
+            .collect(Collectors.toList());
+
     return ResponseEntity.ok(response);
   }
 
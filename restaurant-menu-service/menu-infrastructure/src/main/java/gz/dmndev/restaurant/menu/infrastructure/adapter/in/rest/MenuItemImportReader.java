@@ -0,0 +1,93 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.MalformedImportException;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemRequest;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper.MenuItemRestMapper;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a JSON array of {@link MenuItemRequest}s one element at a time with the streaming parser,
+ * so only the current item is held in memory. A body that is not an array is rejected up front with
+ * an {@link IllegalArgumentException}; a malformed element is reported as a {@link
+ * MalformedImportException} when it is reached, after the elements before it were handed out.
+ */
+class MenuItemImportReader implements Iterator<MenuItem>, Closeable {
+
+  private final ObjectMapper objectMapper;
+  private final MenuItemRestMapper mapper;
+  private final JsonParser parser;
+  private MenuItem next;
+  private boolean finished;
+
+  MenuItemImportReader(ObjectMapper objectMapper, MenuItemRestMapper mapper, InputStream body)
+      throws IOException {
+    this.objectMapper = objectMapper;
+    this.mapper = mapper;
+    this.parser = objectMapper.getFactory().createParser(body);
+    if (parser.nextToken() != JsonToken.START_ARRAY) {
+      parser.close();
+      throw new IllegalArgumentException("Menu import must be a JSON array of menu items");
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      advance();
+    }
+    return next != null;
+  }
+
+  @Override
+  public MenuItem next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    MenuItem current = next;
+    next = null;
+    return current;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private void advance() {
+    try {
+      JsonToken token = parser.nextToken();
+      if (token == JsonToken.END_ARRAY || token == null) {
+        finished = true;
+        return;
+      }
+      if (token != JsonToken.START_OBJECT) {
+        finished = true;
+        throw new MalformedImportException("Expected a menu item " + location());
+      }
+      // Categories are validated by the import itself, in one lookup for all items
+      MenuItemRequest request = objectMapper.readValue(parser, MenuItemRequest.class);
+      next = mapper.toDomainWithoutCategoryLookup(request);
+    } catch (IOException e) {
+      finished = true;
+      String reason = e instanceof JsonProcessingException json ? json.getOriginalMessage() : null;
+      throw new MalformedImportException(
+          "Malformed menu item " + location() + ": " + (reason != null ? reason : e.getMessage()),
+          e);
+    }
+  }
+
+  private String location() {
+    JsonLocation location = parser.currentLocation();
+    return "at line " + location.getLineNr() + ", column " + location.getColumnNr();
+  }
+}
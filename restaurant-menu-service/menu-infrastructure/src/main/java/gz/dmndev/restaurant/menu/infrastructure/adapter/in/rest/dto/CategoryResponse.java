@@ -1,5 +1,6 @@
 package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -15,4 +16,8 @@ public class CategoryResponse {
   private String description;
   private int displayOrder;
   private boolean active;
+
+  /** Number of menu items in the category, only present when requested. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private Long itemCount;
 }
@@ -0,0 +1,22 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuImportResponse {
+  private long imported;
+  private long rejected;
+  private List<String> errors;
+
+  /** Why reading stopped before the end of the import, only present then. */
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String parseError;
+}
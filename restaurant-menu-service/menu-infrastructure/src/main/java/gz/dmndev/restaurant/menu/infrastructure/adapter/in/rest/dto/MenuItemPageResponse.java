@@ -0,0 +1,21 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/** A page of menu items, each holding only the fields the client selected. */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuItemPageResponse {
+  private List<Map<String, Object>> items;
+  private int page;
+  private int size;
+  private long totalItems;
+  private int totalPages;
+}
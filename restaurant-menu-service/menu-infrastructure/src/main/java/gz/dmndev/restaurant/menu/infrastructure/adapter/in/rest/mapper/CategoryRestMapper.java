@@ -11,6 +11,7 @@ public interface CategoryRestMapper {
   @Mapping(target = "id", ignore = true)
   Category toDomain(CategoryRequest request);
 
+  @Mapping(target = "itemCount", ignore = true)
   CategoryResponse toResponse(Category domain);
 
   default Category updateDomainFromRequest(Category category, CategoryRequest request) {
@@ -1,10 +1,15 @@
 package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper;
 
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
 import gz.dmndev.restaurant.menu.application.service.CategoryService;
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemRequest;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.MenuItemResponse;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +27,48 @@ public abstract class MenuItemRestMapper {
 
   public abstract MenuItemResponse toResponse(MenuItem domain);
 
+  /** Map a menu item to a response holding only the given fields, all fields if empty. */
+  public Map<String, Object> toResponse(MenuItem domain, Set<MenuItemField> fields) {
+    MenuItemResponse response = toResponse(domain);
+    Set<MenuItemField> selected =
+        fields.isEmpty() ? EnumSet.allOf(MenuItemField.class) : EnumSet.copyOf(fields);
+
+    Map<String, Object> values = new LinkedHashMap<>();
+    for (MenuItemField field : selected) {
+      values.put(
+          field.fieldName(),
+          switch (field) {
+            case ID -> response.getId();
+            case NAME -> response.getName();
+            case DESCRIPTION -> response.getDescription();
+            case PRICE -> response.getPrice();
+            case CATEGORY -> response.getCategory();
+            case TAGS -> response.getTags();
+            case ALLERGENS -> response.getAllergens();
+            case AVAILABLE -> response.isAvailable();
+            case IMAGE_URL -> response.getImageUrl();
+          });
+    }
+    return values;
+  }
+
+  /** Map a request to a new menu item whose category holds only the requested ID. */
+  public MenuItem toDomainWithoutCategoryLookup(MenuItemRequest request) {
+    return MenuItem.builder()
+        .name(request.getName())
+        .description(request.getDescription())
+        .price(request.getPrice())
+        .category(
+            request.getCategoryId() != null
+                ? Category.builder().id(request.getCategoryId()).build()
+                : null)
+        .tags(request.getTags())
+        .allergens(request.getAllergens())
+        .available(request.isAvailable())
+        .imageUrl(request.getImageUrl())
+        .build();
+  }
+
   public MenuItem updateDomainFromRequest(MenuItem existingItem, MenuItemRequest request) {
     Category category = mapCategory(request.getCategoryId());
 
@@ -0,0 +1,31 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging;
+
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.menu.application.port.out.MenuEventPublisherPort;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging.event.MenuItemEventDto;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging.mapper.MenuItemEventMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/** Publishes menu item changes keyed by menu item id so consumers can invalidate cached copies. */
+@Component
+@RequiredArgsConstructor
+public class MenuEventPublisherAdapter implements MenuEventPublisherPort {
+
+  private final KafkaTemplate<String, MenuItemEventDto> kafkaTemplate;
+  private final MenuItemEventMapper mapper;
+
+  @Override
+  public void publishMenuItemUpdatedEvent(MenuItem menuItem) {
+    MenuItemEventDto eventDto = mapper.toMenuItemUpdatedEventDto(menuItem);
+    kafkaTemplate.send(KafkaTopics.MENU_EVENTS, menuItem.id(), eventDto);
+  }
+
+  @Override
+  public void publishMenuItemDeletedEvent(String menuItemId) {
+    MenuItemEventDto eventDto = mapper.toMenuItemDeletedEventDto(menuItemId);
+    kafkaTemplate.send(KafkaTopics.MENU_EVENTS, menuItemId, eventDto);
+  }
+}
@@ -0,0 +1,33 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import gz.dmndev.restaurant.common.messaging.event.BaseEvent;
+import java.math.BigDecimal;
+import lombok.EqualsAndHashCode;
+import lombok.Value;
+
+@EqualsAndHashCode(callSuper = true)
+@Value
+public class MenuItemEventDto extends BaseEvent {
+
+  String menuItemId;
+  String name;
+  BigDecimal price;
+  boolean available;
+
+  @JsonCreator
+  public MenuItemEventDto(
+      @JsonProperty("eventId") String eventId,
+      @JsonProperty("eventType") String eventType,
+      @JsonProperty("menuItemId") String menuItemId,
+      @JsonProperty("name") String name,
+      @JsonProperty("price") BigDecimal price,
+      @JsonProperty("available") boolean available) {
+    super(eventId, eventType);
+    this.menuItemId = menuItemId;
+    this.name = name;
+    this.price = price;
+    this.available = available;
+  }
+}
@@ -0,0 +1,28 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging.mapper;
+
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.messaging.event.MenuItemEventDto;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+@Component
+public class MenuItemEventMapper {
+
+  private static final String MENU_ITEM_UPDATED_EVENT = "MENU_ITEM_UPDATED";
+  private static final String MENU_ITEM_DELETED_EVENT = "MENU_ITEM_DELETED";
+
+  public MenuItemEventDto toMenuItemUpdatedEventDto(MenuItem menuItem) {
+    return new MenuItemEventDto(
+        UUID.randomUUID().toString(),
+        MENU_ITEM_UPDATED_EVENT,
+        menuItem.id(),
+        menuItem.name(),
+        menuItem.price(),
+        menuItem.available());
+  }
+
+  public MenuItemEventDto toMenuItemDeletedEventDto(String menuItemId) {
+    return new MenuItemEventDto(
+        UUID.randomUUID().toString(), MENU_ITEM_DELETED_EVENT, menuItemId, null, null, false);
+  }
+}
@@ -0,0 +1,82 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.mapper.CategoryPersistenceMapper;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository.SpringDataCategoryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Small cache of the categories embedded in menu items.
+ *
+ * <p>Categories written through {@link CategoryRepositoryAdapter} are evicted right away; the age
+ * limit bounds how long changes made by another instance stay invisible.
+ */
+@Component
+public class CategoryCache {
+
+  private final Cache<String, Category> cache;
+  private final SpringDataCategoryRepository repository;
+  private final CategoryPersistenceMapper mapper;
+
+  public CategoryCache(
+      SpringDataCategoryRepository repository,
+      CategoryPersistenceMapper mapper,
+      @Value("${restaurant.menu.category-cache.max-size:1000}") long maximumSize,
+      @Value("${restaurant.menu.category-cache.ttl:5m}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.repository = repository;
+    this.mapper = mapper;
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> GuavaCacheMetrics.monitor(registry, cache, "menu.categories"));
+  }
+
+  public Optional<Category> get(String categoryId) {
+    return Optional.ofNullable(getAll(Set.of(categoryId)).get(categoryId));
+  }
+
+  /**
+   * Resolve several categories, loading the ones not cached yet with a single query.
+   *
+   * @return the categories found, by ID
+   */
+  public Map<String, Category> getAll(Collection<String> categoryIds) {
+    Map<String, Category> categories = new HashMap<>(cache.getAllPresent(categoryIds));
+
+    Set<String> missingIds = new HashSet<>(categoryIds);
+    missingIds.removeAll(categories.keySet());
+    if (!missingIds.isEmpty()) {
+      repository.findAllById(missingIds).stream()
+          .map(mapper::toDomain)
+          .forEach(
+              category -> {
+                cache.put(category.id(), category);
+                categories.put(category.id(), category);
+              });
+    }
+
+    return categories;
+  }
+
+  public void invalidate(String categoryId) {
+    cache.invalidate(categoryId);
+  }
+}
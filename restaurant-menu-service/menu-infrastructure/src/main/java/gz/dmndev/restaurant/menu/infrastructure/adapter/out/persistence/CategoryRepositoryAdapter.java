@@ -17,11 +17,13 @@ public class CategoryRepositoryAdapter implements CategoryRepositoryPort {
 
   private final SpringDataCategoryRepository repository;
   private final CategoryPersistenceMapper mapper;
+  private final CategoryCache categoryCache;
 
   @Override
   public Category save(Category category) {
     CategoryEntity entity = mapper.toEntity(category);
     entity = repository.save(entity);
+    categoryCache.invalidate(entity.getId());
     return mapper.toDomain(entity);
   }
 
@@ -45,5 +47,6 @@ public class CategoryRepositoryAdapter implements CategoryRepositoryPort {
   @Override
   public void deleteById(String id) {
     repository.deleteById(id);
+    categoryCache.invalidate(id);
   }
 }
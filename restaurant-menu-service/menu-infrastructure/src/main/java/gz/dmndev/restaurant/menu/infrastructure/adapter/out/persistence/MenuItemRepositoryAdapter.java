@@ -1,14 +1,20 @@
 package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence;
 
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
 import gz.dmndev.restaurant.menu.application.port.out.MenuItemRepositoryPort;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.mapper.MenuItemPersistenceMapper;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository.SpringDataMenuItemRepository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -32,25 +38,61 @@ public class MenuItemRepositoryAdapter implements MenuItemRepositoryPort {
 
   @Override
   public List<MenuItem> findAll() {
-    return repository.findAll().stream().map(mapper::toDomain).collect(Collectors.toList());
+    return mapper.toDomainList(repository.findAll());
+  }
+
+  @Override
+  public List<MenuItem> findAllByIds(Collection<String> ids) {
+    return mapper.toDomainList(repository.findAllById(ids));
   }
 
   @Override
   public List<MenuItem> findByCategoryId(String categoryId) {
-    return repository.findByCategoryId(categoryId).stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+    return mapper.toDomainList(repository.findByCategoryId(categoryId));
   }
 
   @Override
   public List<MenuItem> findByNameContaining(String name) {
-    return repository.findByNameContainingIgnoreCase(name).stream()
-        .map(mapper::toDomain)
-        .collect(Collectors.toList());
+    return mapper.toDomainList(repository.findByNameContainingIgnoreCase(name));
+  }
+
+  @Override
+  public boolean existsByCategoryId(String categoryId) {
+    return repository.existsByCategoryId(categoryId);
+  }
+
+  @Override
+  public MenuItemPage findPage(String categoryId, Set<MenuItemField> fields, int page, int size) {
+    List<String> properties = fields.stream().map(MenuItemRepositoryAdapter::propertyOf).toList();
+    Page<MenuItemEntity> entities =
+        repository.findPage(
+            categoryId, properties, PageRequest.of(page, size, Sort.by("name", "id")));
+
+    return new MenuItemPage(
+        mapper.toDomainList(entities.getContent()), page, size, entities.getTotalElements());
+  }
+
+  @Override
+  public int insertAll(List<MenuItem> menuItems) {
+    return repository.insertUnordered(menuItems.stream().map(mapper::toEntity).toList());
   }
 
   @Override
   public void deleteById(String id) {
     repository.deleteById(id);
   }
+
+  private static String propertyOf(MenuItemField field) {
+    return switch (field) {
+      case ID -> "id";
+      case NAME -> "name";
+      case DESCRIPTION -> "description";
+      case PRICE -> "price";
+      case CATEGORY -> "categoryId";
+      case TAGS -> "tags";
+      case ALLERGENS -> "allergens";
+      case AVAILABLE -> "available";
+      case IMAGE_URL -> "imageUrl";
+    };
+  }
 }
@@ -2,8 +2,13 @@ package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.mapper;
 
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.CategoryCache;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
-import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository.SpringDataCategoryRepository;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -14,13 +19,31 @@ import org.springframework.beans.factory.annotation.Autowired;
     uses = {CategoryPersistenceMapper.class})
 public abstract class MenuItemPersistenceMapper {
 
-  @Autowired private SpringDataCategoryRepository categoryRepository;
-
-  @Autowired private CategoryPersistenceMapper categoryMapper;
+  @Autowired private CategoryCache categoryCache;
 
   @Mapping(source = "categoryId", target = "category", qualifiedByName = "mapCategory")
   public abstract MenuItem toDomain(MenuItemEntity entity);
 
+  @Mapping(source = "entity.id", target = "id")
+  @Mapping(source = "entity.name", target = "name")
+  @Mapping(source = "entity.description", target = "description")
+  @Mapping(source = "category", target = "category")
+  public abstract MenuItem toDomain(MenuItemEntity entity, Category category);
+
+  /** Map a list of entities, resolving all of their categories with at most one query. */
+  public List<MenuItem> toDomainList(List<MenuItemEntity> entities) {
+    Set<String> categoryIds =
+        entities.stream()
+            .map(MenuItemEntity::getCategoryId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    Map<String, Category> categories = categoryCache.getAll(categoryIds);
+
+    return entities.stream()
+        .map(entity -> toDomain(entity, categories.get(entity.getCategoryId())))
+        .toList();
+  }
+
   @Mapping(source = "category", target = "categoryId", qualifiedByName = "mapCategoryId")
   public abstract MenuItemEntity toEntity(MenuItem domain);
 
@@ -30,7 +53,7 @@ public abstract class MenuItemPersistenceMapper {
       return null;
     }
 
-    return categoryRepository.findById(categoryId).map(categoryMapper::toDomain).orElse(null);
+    return categoryCache.get(categoryId).orElse(null);
   }
 
   @Named("mapCategoryId")
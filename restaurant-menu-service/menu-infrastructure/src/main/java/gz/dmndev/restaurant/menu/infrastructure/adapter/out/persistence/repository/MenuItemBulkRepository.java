@@ -0,0 +1,16 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
+import java.util.List;
+
+/** Bulk writes of menu items. */
+public interface MenuItemBulkRepository {
+
+  /**
+   * Insert menu items with a single unordered bulk write. A document that fails, for example on a
+   * duplicate key, does not stop the others from being written.
+   *
+   * @return the number of menu items inserted
+   */
+  int insertUnordered(List<MenuItemEntity> entities);
+}
@@ -0,0 +1,37 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@Slf4j
+@RequiredArgsConstructor
+class MenuItemBulkRepositoryImpl implements MenuItemBulkRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public int insertUnordered(List<MenuItemEntity> entities) {
+    if (entities.isEmpty()) {
+      return 0;
+    }
+    try {
+      return mongoTemplate
+          .bulkOps(BulkMode.UNORDERED, MenuItemEntity.class)
+          .insert(entities)
+          .execute()
+          .getInsertedCount();
+    } catch (BulkOperationException e) {
+      log.warn(
+          "{} of {} menu items were not inserted, first error: {}",
+          e.getErrors().size(),
+          entities.size(),
+          e.getErrors().get(0).getMessage());
+      return e.getResult().getInsertedCount();
+    }
+  }
+}
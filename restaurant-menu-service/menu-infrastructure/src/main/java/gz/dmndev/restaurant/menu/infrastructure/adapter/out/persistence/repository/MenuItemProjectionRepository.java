@@ -0,0 +1,20 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
+import java.util.Collection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/** Menu item queries whose projection is chosen at run time. */
+public interface MenuItemProjectionRepository {
+
+  /**
+   * Find a page of menu items, reading only the given properties from MongoDB
+   *
+   * @param categoryId the category to list, all categories if null
+   * @param properties the entity properties to read, all properties if empty
+   * @param pageable the page to read and its ordering
+   */
+  Page<MenuItemEntity> findPage(
+      String categoryId, Collection<String> properties, Pageable pageable);
+}
@@ -0,0 +1,36 @@
+package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.MenuItemEntity;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.support.PageableExecutionUtils;
+
+@RequiredArgsConstructor
+class MenuItemProjectionRepositoryImpl implements MenuItemProjectionRepository {
+
+  private final MongoTemplate mongoTemplate;
+
+  @Override
+  public Page<MenuItemEntity> findPage(
+      String categoryId, Collection<String> properties, Pageable pageable) {
+    Query query = new Query();
+    if (categoryId != null) {
+      query.addCriteria(Criteria.where("categoryId").is(categoryId));
+    }
+    // Property names are mapped to the stored field names, so "categoryId" reads "category_id"
+    properties.forEach(property -> query.fields().include(property));
+
+    List<MenuItemEntity> content =
+        mongoTemplate.find(Query.of(query).with(pageable), MenuItemEntity.class);
+
+    // The count is skipped when the first page is not full
+    return PageableExecutionUtils.getPage(
+        content, pageable, () -> mongoTemplate.count(query, MenuItemEntity.class));
+  }
+}
@@ -6,8 +6,13 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface SpringDataMenuItemRepository extends MongoRepository<MenuItemEntity, String> {
+public interface SpringDataMenuItemRepository
+    extends MongoRepository<MenuItemEntity, String>,
+        MenuItemProjectionRepository,
+        MenuItemBulkRepository {
   List<MenuItemEntity> findByCategoryId(String categoryId);
 
   List<MenuItemEntity> findByNameContainingIgnoreCase(String name);
+
+  boolean existsByCategoryId(String categoryId);
 }
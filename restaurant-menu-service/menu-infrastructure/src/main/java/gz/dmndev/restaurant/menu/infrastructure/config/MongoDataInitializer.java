@@ -41,7 +41,7 @@ public class MongoDataInitializer implements ApplicationRunner {
     Resource categoriesResource = new ClassPathResource("data/categories.json");
     CategoryEntity[] categories =
         objectMapper.readValue(categoriesResource.getInputStream(), CategoryEntity[].class);
-    Arrays.stream(categories).forEach(mongoTemplate::save);
+    mongoTemplate.insertAll(Arrays.asList(categories));
     log.info("Loaded {} categories", categories.length);
   }
 
@@ -49,7 +49,7 @@ public class MongoDataInitializer implements ApplicationRunner {
     Resource productsResource = new ClassPathResource("data/menuItems.json");
     MenuItemEntity[] menuItems =
         objectMapper.readValue(productsResource.getInputStream(), MenuItemEntity[].class);
-    Arrays.stream(menuItems).forEach(mongoTemplate::save);
+    mongoTemplate.insertAll(Arrays.asList(menuItems));
     log.info("Loaded {} menuItems", menuItems.length);
   }
 }
@@ -9,18 +9,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import gz.dmndev.restaurant.menu.application.port.in.CreateCategoryUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.DeleteCategoryUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.GetCategoryUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuSnapshotUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
 import gz.dmndev.restaurant.menu.application.port.in.UpdateCategoryUseCase;
 import gz.dmndev.restaurant.menu.domain.model.Category;
+import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.CategoryRequest;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.dto.CategoryResponse;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper.CategoryRestMapper;
+import java.math.BigDecimal;
 import java.util.Arrays;
-import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
@@ -43,6 +49,8 @@ class CategoryControllerTest {
 
   @MockitoBean private GetCategoryUseCase getCategoryUseCase;
 
+  @MockitoBean private GetMenuSnapshotUseCase getMenuSnapshotUseCase;
+
   @MockitoBean private UpdateCategoryUseCase updateCategoryUseCase;
 
   @MockitoBean private DeleteCategoryUseCase deleteCategoryUseCase;
@@ -142,7 +150,8 @@ class CategoryControllerTest {
             .active(true)
             .build();
 
-    when(getCategoryUseCase.getAllCategories()).thenReturn(Arrays.asList(category, category2));
+    MenuSnapshot snapshot = MenuSnapshot.of(List.of(), Arrays.asList(category, category2));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(snapshot);
     when(mapper.toResponse(category))
         .thenReturn(
             CategoryResponse.builder()
@@ -164,17 +173,79 @@ class CategoryControllerTest {
     mockMvc
         .perform(get("/categories"))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + snapshot.categoriesVersion() + "\""))
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(2))
         .andExpect(jsonPath("$[0].id").value("category-1"))
+        .andExpect(jsonPath("$[0].itemCount").doesNotExist())
         .andExpect(jsonPath("$[1].id").value("category-2"));
   }
 
+  @Test
+  void getAllCategories_WithItemCounts_ShouldIncludeCounts() throws Exception {
+    // Arrange
+    Category category2 = Category.builder().id("category-2").name("Desserts").active(true).build();
+    MenuSnapshot snapshot = MenuSnapshot.of(itemsIn(category, 4), List.of(category, category2));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(snapshot);
+    when(mapper.toResponse(category))
+        .thenReturn(CategoryResponse.builder().id("category-1").name("Appetizers").build());
+    when(mapper.toResponse(category2))
+        .thenReturn(CategoryResponse.builder().id("category-2").name("Desserts").build());
+
+    String etag = "\"" + snapshot.categoriesVersion() + "-" + snapshot.menuItemsVersion() + "\"";
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/categories?includeItemCounts=true"))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, etag))
+        .andExpect(jsonPath("$[0].itemCount").value(4))
+        .andExpect(jsonPath("$[1].itemCount").value(0));
+  }
+
+  @Test
+  void getAllCategories_WithItemCounts_WhenItemsChanged_ShouldReturnNewCounts() throws Exception {
+    // Arrange
+    MenuSnapshot before = MenuSnapshot.of(itemsIn(category, 4), List.of(category));
+    MenuSnapshot after = MenuSnapshot.of(itemsIn(category, 5), List.of(category));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(after);
+    when(mapper.toResponse(category))
+        .thenReturn(CategoryResponse.builder().id("category-1").name("Appetizers").build());
+
+    String staleEtag = "\"" + before.categoriesVersion() + "-" + before.menuItemsVersion() + "\"";
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/categories?includeItemCounts=true").header(HttpHeaders.IF_NONE_MATCH, staleEtag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].itemCount").value(5));
+  }
+
+  @Test
+  void getAllCategories_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Arrange
+    MenuSnapshot snapshot = MenuSnapshot.of(List.of(), List.of(category));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(snapshot);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/categories")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + snapshot.categoriesVersion() + "\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(mapper, never()).toResponse(any(Category.class));
+  }
+
   @Test
   void getAllActiveCategories_ShouldReturnActiveCategories() throws Exception {
     // Arrange
-    when(getCategoryUseCase.getAllActiveCategories())
-        .thenReturn(Collections.singletonList(category));
+    Category inactiveCategory =
+        Category.builder().id("category-2").name("Seasonal").displayOrder(2).active(false).build();
+    when(getMenuSnapshotUseCase.getMenuSnapshot())
+        .thenReturn(MenuSnapshot.of(List.of(), List.of(category, inactiveCategory)));
     when(mapper.toResponse(any(Category.class)))
         .thenReturn(
             CategoryResponse.builder()
@@ -317,4 +388,18 @@ class CategoryControllerTest {
     // Act & Assert
     mockMvc.perform(delete("/categories/category-1")).andExpect(status().isConflict());
   }
+
+  private static List<MenuItem> itemsIn(Category category, int count) {
+    return IntStream.range(0, count)
+        .mapToObj(
+            i ->
+                MenuItem.builder()
+                    .id(category.id() + "-item-" + i)
+                    .name("Item " + i)
+                    .price(new BigDecimal("4.99"))
+                    .category(category)
+                    .available(true)
+                    .build())
+        .toList();
+  }
 }
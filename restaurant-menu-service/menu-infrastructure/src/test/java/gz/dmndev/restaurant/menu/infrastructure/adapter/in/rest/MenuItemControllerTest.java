@@ -1,5 +1,7 @@
 package gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest;
 
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -9,6 +11,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import gz.dmndev.restaurant.menu.application.port.in.CreateMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.DeleteMenuItemUseCase;
 import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuItemUseCase.MenuItemFilter;
+import gz.dmndev.restaurant.menu.application.port.in.GetMenuSnapshotUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.ImportResult;
+import gz.dmndev.restaurant.menu.application.port.in.ImportMenuItemsUseCase.MalformedImportException;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
+import gz.dmndev.restaurant.menu.application.port.in.MenuSnapshot;
 import gz.dmndev.restaurant.menu.application.port.in.UpdateMenuItemUseCase;
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
@@ -19,11 +29,16 @@ import gz.dmndev.restaurant.menu.infrastructure.adapter.in.rest.mapper.MenuItemR
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.ContextConfiguration;
@@ -46,6 +61,10 @@ class MenuItemControllerTest {
 
   @MockitoBean private GetMenuItemUseCase getMenuItemUseCase;
 
+  @MockitoBean private GetMenuSnapshotUseCase getMenuSnapshotUseCase;
+
+  @MockitoBean private ImportMenuItemsUseCase importMenuItemsUseCase;
+
   @MockitoBean private UpdateMenuItemUseCase updateMenuItemUseCase;
 
   @MockitoBean private DeleteMenuItemUseCase deleteMenuItemUseCase;
@@ -165,7 +184,8 @@ class MenuItemControllerTest {
             .available(true)
             .build();
 
-    when(getMenuItemUseCase.getAllMenuItems()).thenReturn(Arrays.asList(menuItem, menuItem2));
+    MenuSnapshot snapshot = MenuSnapshot.of(Arrays.asList(menuItem, menuItem2), List.of(category));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(snapshot);
 
     MenuItemResponse response1 =
         MenuItemResponse.builder()
@@ -192,17 +212,37 @@ class MenuItemControllerTest {
     mockMvc
         .perform(get("/menu-items"))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "\"" + snapshot.menuItemsVersion() + "\""))
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(2))
         .andExpect(jsonPath("$[0].id").value("item-1"))
         .andExpect(jsonPath("$[1].id").value("item-2"));
   }
 
+  @Test
+  void getAllMenuItems_WhenETagMatches_ShouldReturnNotModified() throws Exception {
+    // Arrange
+    MenuSnapshot snapshot = MenuSnapshot.of(List.of(menuItem), List.of(category));
+    when(getMenuSnapshotUseCase.getMenuSnapshot()).thenReturn(snapshot);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            get("/menu-items")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"" + snapshot.menuItemsVersion() + "\""))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+
+    verify(mapper, never()).toResponse(any(MenuItem.class));
+  }
+
   @Test
   void getMenuItemsByCategory_ShouldReturnCategoryItems() throws Exception {
     // Arrange
-    when(getMenuItemUseCase.getMenuItemsByCategory("category-1"))
-        .thenReturn(Collections.singletonList(menuItem));
+    Category drinks = Category.builder().id("category-2").name("Drinks").active(true).build();
+    MenuItem lemonade = MenuItem.builder().id("item-3").name("Lemonade").category(drinks).build();
+    when(getMenuSnapshotUseCase.getMenuSnapshot())
+        .thenReturn(MenuSnapshot.of(List.of(menuItem, lemonade), List.of(category, drinks)));
 
     MenuItemResponse response =
         MenuItemResponse.builder()
@@ -224,11 +264,39 @@ class MenuItemControllerTest {
         .andExpect(jsonPath("$[0].id").value("item-1"));
   }
 
+  @Test
+  void getMenuItemsByIds_ShouldReturnRequestedItems() throws Exception {
+    // Arrange
+    List<String> ids = List.of("item-1", "missing");
+    when(getMenuItemUseCase.getMenuItemsByIds(ids)).thenReturn(Collections.singletonList(menuItem));
+
+    MenuItemResponse response =
+        MenuItemResponse.builder()
+            .id("item-1")
+            .name("Spring Rolls")
+            .price(new BigDecimal("5.99"))
+            .available(true)
+            .build();
+
+    when(mapper.toResponse(any(MenuItem.class))).thenReturn(response);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/menu-items/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(ids)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].id").value("item-1"));
+
+    verify(getMenuItemUseCase).getMenuItemsByIds(ids);
+  }
+
   @Test
   void searchMenuItems_ShouldReturnMatchingItems() throws Exception {
     // Arrange
-    when(getMenuItemUseCase.searchMenuItems("Spring"))
-        .thenReturn(Collections.singletonList(menuItem));
+    when(getMenuItemUseCase.searchMenuItems("Spring")).thenReturn(List.of(menuItem));
 
     MenuItemResponse response =
         MenuItemResponse.builder()
@@ -248,6 +316,136 @@ class MenuItemControllerTest {
         .andExpect(jsonPath("$").isArray())
         .andExpect(jsonPath("$.length()").value(1))
         .andExpect(jsonPath("$[0].name").value("Spring Rolls"));
+
+    verify(getMenuItemUseCase).searchMenuItems("Spring");
+    verify(getMenuSnapshotUseCase, never()).getMenuSnapshot();
+  }
+
+  @Test
+  void filterMenuItems_ShouldPassTagsAndAllergensToUseCase() throws Exception {
+    // Arrange
+    MenuItemFilter filter =
+        new MenuItemFilter(null, Set.of("vegetarian"), null, Set.of("gluten", "nuts"));
+    when(getMenuItemUseCase.filterMenuItems(filter)).thenReturn(List.of(menuItem));
+
+    MenuItemResponse response =
+        MenuItemResponse.builder().id("item-1").name("Spring Rolls").available(true).build();
+    when(mapper.toResponse(any(MenuItem.class))).thenReturn(response);
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/menu-items?tags=vegetarian&excludeAllergens=gluten,nuts"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.length()").value(1))
+        .andExpect(jsonPath("$[0].name").value("Spring Rolls"));
+
+    verify(getMenuItemUseCase).filterMenuItems(filter);
+    verify(getMenuSnapshotUseCase, never()).getMenuSnapshot();
+  }
+
+  @Test
+  void getMenuItemPage_ShouldReturnSelectedFields() throws Exception {
+    // Arrange
+    Set<MenuItemField> fields = Set.of(MenuItemField.ID, MenuItemField.NAME);
+    when(getMenuItemUseCase.getMenuItemPage(null, fields, 1, 2))
+        .thenReturn(new MenuItemPage(List.of(menuItem), 1, 2, 3));
+    when(mapper.toResponse(menuItem, fields))
+        .thenReturn(Map.of("id", "item-1", "name", "Spring Rolls"));
+
+    // Act & Assert
+    mockMvc
+        .perform(get("/menu-items/page?fields=id,name&page=1&size=2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items.length()").value(1))
+        .andExpect(jsonPath("$.items[0].name").value("Spring Rolls"))
+        .andExpect(jsonPath("$.items[0].description").doesNotExist())
+        .andExpect(jsonPath("$.page").value(1))
+        .andExpect(jsonPath("$.totalItems").value(3))
+        .andExpect(jsonPath("$.totalPages").value(2));
+  }
+
+  @Test
+  void importMenuItems_ShouldStreamItemsToUseCase() throws Exception {
+    // Arrange
+    MenuItem imported =
+        MenuItem.builder()
+            .name("Lemonade")
+            .price(new BigDecimal("2.99"))
+            .category(Category.builder().id("category-1").build())
+            .available(true)
+            .build();
+    when(mapper.toDomainWithoutCategoryLookup(any(MenuItemRequest.class))).thenReturn(imported);
+    when(importMenuItemsUseCase.importMenuItems(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Iterator<MenuItem> items = invocation.getArgument(0);
+              int count = 0;
+              while (items.hasNext()) {
+                items.next();
+                count++;
+              }
+              return new ImportResult(count, 0, List.of(), null);
+            });
+
+    String body =
+        "[{\"name\":\"Lemonade\",\"price\":2.99,\"categoryId\":\"category-1\"},"
+            + "{\"name\":\"Iced Tea\",\"price\":2.49,\"categoryId\":\"category-1\"}]";
+
+    // Act & Assert
+    mockMvc
+        .perform(post("/menu-items/import").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.rejected").value(0));
+
+    verify(mapper, times(2)).toDomainWithoutCategoryLookup(any(MenuItemRequest.class));
+    verify(getMenuItemUseCase, never()).getMenuItemById(anyString());
+  }
+
+  @Test
+  void importMenuItems_WhenElementIsMalformed_ShouldReturnPartialResult() throws Exception {
+    // Arrange
+    MenuItem imported =
+        MenuItem.builder()
+            .name("Lemonade")
+            .price(new BigDecimal("2.99"))
+            .category(Category.builder().id("category-1").build())
+            .available(true)
+            .build();
+    when(mapper.toDomainWithoutCategoryLookup(any(MenuItemRequest.class))).thenReturn(imported);
+    when(importMenuItemsUseCase.importMenuItems(any(), any()))
+        .thenAnswer(
+            invocation -> {
+              Iterator<MenuItem> items = invocation.getArgument(0);
+              int count = 0;
+              try {
+                while (items.hasNext()) {
+                  items.next();
+                  count++;
+                }
+              } catch (MalformedImportException e) {
+                return new ImportResult(
+                    count, 0, List.of(), "Item " + (count + 1) + ": " + e.getMessage());
+              }
+              return new ImportResult(count, 0, List.of(), null);
+            });
+
+    String body =
+        "[{\"name\":\"Lemonade\",\"price\":2.99,\"categoryId\":\"category-1\"},\n"
+            + "{\"name\":\"Iced Tea\",\"price\":2.49,\"categoryId\":\"category-1\"},\n"
+            + "{\"name\":\"Cola\",\"price\":oops},\n"
+            + "{\"name\":\"Water\",\"price\":0.99,\"categoryId\":\"category-1\"}]";
+
+    // Act & Assert
+    mockMvc
+        .perform(post("/menu-items/import").contentType(MediaType.APPLICATION_JSON).content(body))
+        .andExpect(status().isMultiStatus())
+        .andExpect(jsonPath("$.imported").value(2))
+        .andExpect(jsonPath("$.rejected").value(0))
+        .andExpect(jsonPath("$.parseError").value(startsWith("Item 3: Malformed menu item")))
+        .andExpect(jsonPath("$.parseError").value(containsString("at line 3")));
+
+    verify(mapper, times(2)).toDomainWithoutCategoryLookup(any(MenuItemRequest.class));
   }
 
   @Test
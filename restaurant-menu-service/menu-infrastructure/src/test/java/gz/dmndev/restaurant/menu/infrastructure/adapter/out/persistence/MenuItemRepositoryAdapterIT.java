@@ -2,6 +2,10 @@ package gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemField;
+import gz.dmndev.restaurant.menu.application.port.in.MenuItemPage;
 import gz.dmndev.restaurant.menu.domain.model.Category;
 import gz.dmndev.restaurant.menu.domain.model.MenuItem;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.entity.CategoryEntity;
@@ -10,14 +14,21 @@ import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.mapper.C
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository.SpringDataCategoryRepository;
 import gz.dmndev.restaurant.menu.infrastructure.adapter.out.persistence.repository.SpringDataMenuItemRepository;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
@@ -28,6 +39,7 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 @ActiveProfiles("test")
 @SpringBootTest(classes = TestMongoConfig.class)
 @Testcontainers
+@Import(MenuItemRepositoryAdapterIT.FindCommandCounterConfig.class)
 class MenuItemRepositoryAdapterIT {
 
   @Container static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
@@ -46,6 +58,8 @@ class MenuItemRepositoryAdapterIT {
 
   @Autowired private CategoryPersistenceMapper categoryMapper;
 
+  @Autowired private FindCommandCounter findCommandCounter;
+
   private CategoryEntity categoryEntity;
   private Category category;
 
@@ -174,6 +188,42 @@ class MenuItemRepositoryAdapterIT {
             .allMatch(item -> item.category().id().equals(categoryEntity.getId())));
   }
 
+  @Test
+  void findAll_ShouldResolveCategoriesWithOneQuery() {
+    // Arrange
+    CategoryEntity otherCategory =
+        springDataCategoryRepository.save(
+            CategoryEntity.builder().name("Desserts").displayOrder(2).active(true).build());
+
+    for (int i = 0; i < 10; i++) {
+      springDataMenuItemRepository.save(
+          MenuItemEntity.builder()
+              .name("Item " + i)
+              .price(new BigDecimal("4.99"))
+              .categoryId(i % 2 == 0 ? categoryEntity.getId() : otherCategory.getId())
+              .available(true)
+              .build());
+    }
+
+    // Act
+    findCommandCounter.reset();
+    List<MenuItem> firstCall = menuItemRepositoryAdapter.findAll();
+    int firstCallQueries = findCommandCounter.count();
+
+    findCommandCounter.reset();
+    List<MenuItem> secondCall = menuItemRepositoryAdapter.findAll();
+    int secondCallQueries = findCommandCounter.count();
+
+    // Assert
+    assertEquals(10, firstCall.size());
+    assertTrue(firstCall.stream().allMatch(item -> item.category() != null));
+    // One query for the items and one for all of their categories
+    assertEquals(2, firstCallQueries);
+    // Categories now come from the cache
+    assertEquals(10, secondCall.size());
+    assertEquals(1, secondCallQueries);
+  }
+
   @Test
   void findByNameContaining_ShouldReturnMatchingItems() {
     // Arrange
@@ -203,6 +253,83 @@ class MenuItemRepositoryAdapterIT {
     assertEquals("Spring Rolls", matchingItems.get(0).name());
   }
 
+  @Test
+  void findPage_ShouldReturnOnlySelectedFields() {
+    // Arrange
+    for (int i = 0; i < 5; i++) {
+      springDataMenuItemRepository.save(
+          MenuItemEntity.builder()
+              .name("Item " + i)
+              .description("Description " + i)
+              .price(new BigDecimal("4.99"))
+              .categoryId(categoryEntity.getId())
+              .tags(List.of("tag"))
+              .available(true)
+              .build());
+    }
+
+    // Act
+    MenuItemPage page =
+        menuItemRepositoryAdapter.findPage(
+            null, Set.of(MenuItemField.ID, MenuItemField.NAME, MenuItemField.PRICE), 1, 2);
+
+    // Assert
+    assertEquals(5, page.totalItems());
+    assertEquals(3, page.totalPages());
+    assertEquals(List.of("Item 2", "Item 3"), page.items().stream().map(MenuItem::name).toList());
+    MenuItem item = page.items().get(0);
+    assertNotNull(item.id());
+    assertEquals(new BigDecimal("4.99"), item.price());
+    assertNull(item.description());
+    assertNull(item.category());
+    assertNull(item.tags());
+  }
+
+  @Test
+  void existsByCategoryId_ShouldReflectStoredItems() {
+    // Arrange
+    CategoryEntity emptyCategory =
+        springDataCategoryRepository.save(
+            CategoryEntity.builder().name("Desserts").displayOrder(2).active(true).build());
+
+    for (int i = 0; i < 3; i++) {
+      springDataMenuItemRepository.save(
+          MenuItemEntity.builder()
+              .name("Item " + i)
+              .price(new BigDecimal("4.99"))
+              .categoryId(categoryEntity.getId())
+              .available(true)
+              .build());
+    }
+
+    // Act & Assert
+    assertTrue(menuItemRepositoryAdapter.existsByCategoryId(categoryEntity.getId()));
+    assertFalse(menuItemRepositoryAdapter.existsByCategoryId(emptyCategory.getId()));
+  }
+
+  @Test
+  void insertAll_ShouldWriteAllItemsInOneBulkWrite() {
+    // Arrange
+    List<MenuItem> menuItems = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      menuItems.add(
+          MenuItem.builder()
+              .name("Imported " + i)
+              .price(new BigDecimal("3.50"))
+              .category(category)
+              .available(true)
+              .build());
+    }
+
+    // Act
+    int inserted = menuItemRepositoryAdapter.insertAll(menuItems);
+
+    // Assert
+    assertEquals(50, inserted);
+    assertEquals(50, springDataMenuItemRepository.count());
+    assertTrue(springDataMenuItemRepository.existsByCategoryId(categoryEntity.getId()));
+  }
+
   @Test
   void deleteById_ShouldRemoveMenuItem() {
     // Arrange
@@ -223,4 +350,39 @@ class MenuItemRepositoryAdapterIT {
     // Assert
     assertFalse(springDataMenuItemRepository.existsById(idToDelete));
   }
+
+  /** Counts the find commands sent to MongoDB */
+  static class FindCommandCounter implements CommandListener {
+
+    private final AtomicInteger finds = new AtomicInteger();
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+      if ("find".equals(event.getCommandName())) {
+        finds.incrementAndGet();
+      }
+    }
+
+    int count() {
+      return finds.get();
+    }
+
+    void reset() {
+      finds.set(0);
+    }
+  }
+
+  @TestConfiguration
+  static class FindCommandCounterConfig {
+
+    @Bean
+    FindCommandCounter findCommandCounter() {
+      return new FindCommandCounter();
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer findCommandCounterCustomizer(FindCommandCounter counter) {
+      return settings -> settings.addCommandListener(counter);
+    }
+  }
 }
@@ -0,0 +1,26 @@
+package gz.dmndev.restaurant.order.application.port.in;
+
+import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import java.util.Collection;
+import java.util.List;
+
+public interface BulkUpdateOrderStatusUseCase {
+  int MAX_BULK_SIZE = 500;
+
+  /**
+   * Moves every given order to {@code status}. Orders that cannot make the transition are reported
+   * individually and do not prevent the others from being updated.
+   *
+   * @return one result per distinct order id, in request order
+   */
+  List<StatusUpdateResult> updateOrderStatuses(Collection<String> ids, OrderStatus status);
+
+  enum StatusUpdateOutcome {
+    UPDATED,
+    NOT_FOUND,
+    INVALID_TRANSITION,
+    CONFLICT
+  }
+
+  record StatusUpdateResult(String orderId, StatusUpdateOutcome outcome, String message) {}
+}
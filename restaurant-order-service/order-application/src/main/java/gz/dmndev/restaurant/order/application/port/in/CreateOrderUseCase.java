@@ -4,8 +4,21 @@ import gz.dmndev.restaurant.order.domain.model.Order;
 import java.util.List;
 
 public interface CreateOrderUseCase {
+  int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
   Order createOrder(
       String customerId, String customerName, List<OrderItemCommand> items, String notes);
 
+  /**
+   * Like {@link #createOrder(String, String, List, String)}, but repeating the call with the same
+   * {@code idempotencyKey} returns the order created the first time instead of creating another.
+   */
+  Order createOrder(
+      String idempotencyKey,
+      String customerId,
+      String customerName,
+      List<OrderItemCommand> items,
+      String notes);
+
   record OrderItemCommand(String productId, int quantity) {}
 }
@@ -1,16 +1,24 @@
 package gz.dmndev.restaurant.order.application.port.in;
 
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
+import gz.dmndev.restaurant.order.domain.model.OrderPage;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
-import java.util.List;
 import java.util.Optional;
 
 public interface GetOrderUseCase {
+  int MAX_PAGE_SIZE = 100;
+
   Optional<Order> getOrderById(String id);
 
-  List<Order> getOrdersByCustomerId(String customerId);
+  /**
+   * Lists orders newest first. {@code pageSize} is capped at {@link #MAX_PAGE_SIZE}.
+   *
+   * @param after cursor returned with the previous page, or {@code null} for the first page
+   */
+  OrderPage getOrders(OrderCursor after, int pageSize);
 
-  List<Order> getOrdersByStatus(OrderStatus status);
+  OrderPage getOrdersByCustomerId(String customerId, OrderCursor after, int pageSize);
 
-  List<Order> getAllOrders();
+  OrderPage getOrdersByStatus(OrderStatus status, OrderCursor after, int pageSize);
 }
@@ -1,10 +1,19 @@
 package gz.dmndev.restaurant.order.application.port.out;
 
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface MenuServicePort {
   Optional<ProductInfo> getProduct(String productId);
 
+  /**
+   * Resolves several products in a single call to menu-service.
+   *
+   * @return products keyed by id; ids that menu-service does not know are absent from the map
+   */
+  Map<String, ProductInfo> getProducts(Collection<String> productIds);
+
   record ProductInfo(String id, String name, BigDecimal price, boolean available) {}
 }
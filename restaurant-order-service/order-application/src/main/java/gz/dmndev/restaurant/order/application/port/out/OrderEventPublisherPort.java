@@ -1,11 +1,18 @@
 package gz.dmndev.restaurant.order.application.port.out;
 
 import gz.dmndev.restaurant.order.domain.model.Order;
+import java.util.List;
 
 public interface OrderEventPublisherPort {
   void publishOrderCreatedEvent(Order order);
 
   void publishOrderUpdatedEvent(Order order);
 
+  /** Publishes the updated events of several orders as one batch. */
+  void publishOrderUpdatedEvents(List<Order> orders);
+
   void publishOrderCancelledEvent(Order order);
+
+  /** Publishes the cancelled events of several orders as one batch. */
+  void publishOrderCancelledEvents(List<Order> orders);
 }
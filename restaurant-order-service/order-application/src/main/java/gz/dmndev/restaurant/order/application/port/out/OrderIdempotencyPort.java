@@ -0,0 +1,22 @@
+package gz.dmndev.restaurant.order.application.port.out;
+
+import gz.dmndev.restaurant.order.domain.model.Order;
+import java.util.Optional;
+
+/** Remembers which order was created for a client supplied idempotency key. */
+public interface OrderIdempotencyPort {
+
+  /** Returns the order created for the key, if any. */
+  Optional<Order> findOrder(String idempotencyKey);
+
+  /**
+   * Reserves the key for the order about to be created, as part of the current transaction. If
+   * another transaction is holding the same key this waits for it to finish.
+   *
+   * @return {@code false} if the key is already taken
+   */
+  boolean claim(String idempotencyKey, String orderId);
+
+  /** Makes the created order available to replays once the current transaction commits. */
+  void remember(String idempotencyKey, Order order);
+}
@@ -1,5 +1,29 @@
 package gz.dmndev.restaurant.order.application.port.out;
 
+import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import gz.dmndev.restaurant.order.domain.repository.OrderRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 
-public interface OrderRepositoryPort extends OrderRepository {}
+public interface OrderRepositoryPort extends OrderRepository {
+
+  /**
+   * Moves an order from {@code expectedFrom} to {@code to} with a single conditional update that
+   * leaves the order items untouched.
+   *
+   * @return the new version of the order, or empty if no order with that id is in {@code
+   *     expectedFrom} any more
+   */
+  Optional<Long> transitionStatus(String id, OrderStatus expectedFrom, OrderStatus to);
+
+  /**
+   * Moves all given orders that are still in {@code expectedFrom} to {@code to} with a single
+   * UPDATE. The given orders must all have been read in {@code expectedFrom}, so that any change
+   * made to them since is detected.
+   *
+   * @return the new version of every order that was updated, keyed by id
+   */
+  Map<String, Long> transitionStatuses(
+      Collection<String> ids, OrderStatus expectedFrom, OrderStatus to);
+}
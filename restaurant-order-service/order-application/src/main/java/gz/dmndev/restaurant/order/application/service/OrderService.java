@@ -3,11 +3,16 @@ package gz.dmndev.restaurant.order.application.service;
 import gz.dmndev.restaurant.order.application.port.in.*;
 import gz.dmndev.restaurant.order.application.port.out.MenuServicePort;
 import gz.dmndev.restaurant.order.application.port.out.OrderEventPublisherPort;
+import gz.dmndev.restaurant.order.application.port.out.OrderIdempotencyPort;
 import gz.dmndev.restaurant.order.application.port.out.OrderRepositoryPort;
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
 import gz.dmndev.restaurant.order.domain.model.OrderItem;
+import gz.dmndev.restaurant.order.domain.model.OrderPage;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,32 +20,85 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 public class OrderService
-    implements CreateOrderUseCase, GetOrderUseCase, UpdateOrderStatusUseCase, CancelOrderUseCase {
+    implements CreateOrderUseCase,
+        GetOrderUseCase,
+        UpdateOrderStatusUseCase,
+        BulkUpdateOrderStatusUseCase,
+        CancelOrderUseCase {
 
   private final OrderRepositoryPort orderRepository;
   private final MenuServicePort menuService;
   private final OrderEventPublisherPort eventPublisher;
+  private final OrderIdempotencyPort orderIdempotency;
 
   @Override
   @Transactional
   public Order createOrder(
       String customerId, String customerName, List<OrderItemCommand> items, String notes) {
+    return placeOrder(UuidV7.randomUuid().toString(), customerId, customerName, items, notes);
+  }
+
+  @Override
+  @Transactional
+  public Order createOrder(
+      String idempotencyKey,
+      String customerId,
+      String customerName,
+      List<OrderItemCommand> items,
+      String notes) {
+    if (idempotencyKey == null) {
+      return createOrder(customerId, customerName, items, notes);
+    }
+    if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_IDEMPOTENCY_KEY_LENGTH) {
+      throw new IllegalArgumentException(
+          "Idempotency key must be 1 to %d characters".formatted(MAX_IDEMPOTENCY_KEY_LENGTH));
+    }
+
+    Optional<Order> previous = orderIdempotency.findOrder(idempotencyKey);
+    if (previous.isPresent()) {
+      return replay(previous.get(), customerId);
+    }
+
+    String orderId = UuidV7.randomUuid().toString();
+    if (!orderIdempotency.claim(idempotencyKey, orderId)) {
+      // A concurrent request with the same key committed while we were waiting on the claim
+      return orderIdempotency
+          .findOrder(idempotencyKey)
+          .map(order -> replay(order, customerId))
+          .orElseThrow(
+              () ->
+                  new IllegalStateException(
+                      "A request with this idempotency key is already in progress"));
+    }
+
+    Order savedOrder = placeOrder(orderId, customerId, customerName, items, notes);
+    orderIdempotency.remember(idempotencyKey, savedOrder);
+    return savedOrder;
+  }
+
+  private Order placeOrder(
+      String orderId,
+      String customerId,
+      String customerName,
+      List<OrderItemCommand> items,
+      String notes) {
     if (items == null || items.isEmpty()) {
       throw new IllegalArgumentException("Order must contain at least one item");
     }
 
-    Order order = Order.createNew(UUID.randomUUID().toString(), customerId, customerName);
+    Order order = Order.createNew(orderId, customerId, customerName);
 
     order.updateNotes(notes);
 
+    Set<String> productIds = new LinkedHashSet<>();
+    items.forEach(itemCommand -> productIds.add(itemCommand.productId()));
+    Map<String, MenuServicePort.ProductInfo> products = menuService.getProducts(productIds);
+
     for (OrderItemCommand itemCommand : items) {
-      MenuServicePort.ProductInfo productInfo =
-          menuService
-              .getProduct(itemCommand.productId())
-              .orElseThrow(
-                  () ->
-                      new IllegalArgumentException(
-                          "Product not found: " + itemCommand.productId()));
+      MenuServicePort.ProductInfo productInfo = products.get(itemCommand.productId());
+      if (productInfo == null) {
+        throw new IllegalArgumentException("Product not found: " + itemCommand.productId());
+      }
 
       if (!productInfo.available()) {
         throw new IllegalArgumentException("Product is not available: " + productInfo.name());
@@ -48,7 +106,7 @@ public class OrderService
 
       OrderItem orderItem =
           OrderItem.createNew(
-              UUID.randomUUID().toString(),
+              UuidV7.randomUuid().toString(),
               productInfo.id(),
               productInfo.name(),
               itemCommand.quantity(),
@@ -57,7 +115,7 @@ public class OrderService
       order.addItem(orderItem);
     }
 
-    Order savedOrder = orderRepository.save(order);
+    Order savedOrder = orderRepository.create(order);
 
     eventPublisher.publishOrderCreatedEvent(savedOrder);
 
@@ -72,20 +130,23 @@ public class OrderService
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getOrdersByCustomerId(String customerId) {
-    return orderRepository.findByCustomerId(customerId);
+  public OrderPage getOrders(OrderCursor after, int pageSize) {
+    int limit = pageLimit(pageSize);
+    return toPage(orderRepository.findPage(after, limit + 1), limit);
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getOrdersByStatus(OrderStatus status) {
-    return orderRepository.findByStatus(status);
+  public OrderPage getOrdersByCustomerId(String customerId, OrderCursor after, int pageSize) {
+    int limit = pageLimit(pageSize);
+    return toPage(orderRepository.findPageByCustomerId(customerId, after, limit + 1), limit);
   }
 
   @Override
   @Transactional(readOnly = true)
-  public List<Order> getAllOrders() {
-    return orderRepository.findAll();
+  public OrderPage getOrdersByStatus(OrderStatus status, OrderCursor after, int pageSize) {
+    int limit = pageLimit(pageSize);
+    return toPage(orderRepository.findPageByStatus(status, after, limit + 1), limit);
   }
 
   @Override
@@ -98,13 +159,88 @@ public class OrderService
 
     order.getStatus().validateTransition(status);
 
-    order.updateStatus(status);
+    transitionStatus(order, status);
 
-    Order savedOrder = orderRepository.save(order);
+    eventPublisher.publishOrderUpdatedEvent(order);
 
-    eventPublisher.publishOrderUpdatedEvent(savedOrder);
+    return order;
+  }
 
-    return savedOrder;
+  @Override
+  @Transactional
+  public List<StatusUpdateResult> updateOrderStatuses(Collection<String> ids, OrderStatus status) {
+    if (status == null) {
+      throw new IllegalArgumentException("Target status is required");
+    }
+    Set<String> orderIds = ids == null ? Set.of() : new LinkedHashSet<>(ids);
+    if (orderIds.isEmpty()) {
+      throw new IllegalArgumentException("At least one order id is required");
+    }
+    if (orderIds.size() > MAX_BULK_SIZE) {
+      throw new IllegalArgumentException(
+          "Cannot update more than %d orders at once".formatted(MAX_BULK_SIZE));
+    }
+
+    Map<String, Order> orders =
+        orderRepository.findAllById(orderIds).stream()
+            .collect(Collectors.toMap(Order::getId, Function.identity()));
+
+    Map<String, StatusUpdateResult> results = new LinkedHashMap<>();
+    List<String> candidateIds = new ArrayList<>();
+    // Each order is guarded by the exact status it was read in, so a change between two statuses
+    // that are both valid sources for the target is still caught as a conflict
+    Map<OrderStatus, List<String>> candidateIdsByStatus = new EnumMap<>(OrderStatus.class);
+    for (String id : orderIds) {
+      Order order = orders.get(id);
+      if (order == null) {
+        results.put(
+            id, new StatusUpdateResult(id, StatusUpdateOutcome.NOT_FOUND, "Order not found"));
+      } else if (!order.getStatus().canTransitionTo(status)) {
+        results.put(
+            id,
+            new StatusUpdateResult(
+                id,
+                StatusUpdateOutcome.INVALID_TRANSITION,
+                "Invalid transition from %s to %s".formatted(order.getStatus(), status)));
+      } else {
+        results.put(id, null);
+        candidateIds.add(id);
+        candidateIdsByStatus.computeIfAbsent(order.getStatus(), s -> new ArrayList<>()).add(id);
+      }
+    }
+
+    Map<String, Long> versions = new HashMap<>();
+    candidateIdsByStatus.forEach(
+        (readStatus, idsInStatus) ->
+            versions.putAll(orderRepository.transitionStatuses(idsInStatus, readStatus, status)));
+
+    List<Order> updatedOrders = new ArrayList<>(versions.size());
+    for (String id : candidateIds) {
+      Long version = versions.get(id);
+      if (version == null) {
+        results.put(
+            id,
+            new StatusUpdateResult(
+                id, StatusUpdateOutcome.CONFLICT, "Order was modified concurrently"));
+        continue;
+      }
+      Order order = orders.get(id);
+      order.updateStatus(status);
+      order.updateVersion(version);
+      updatedOrders.add(order);
+      results.put(id, new StatusUpdateResult(id, StatusUpdateOutcome.UPDATED, null));
+    }
+
+    if (!updatedOrders.isEmpty()) {
+      // Cancellations keep their own event type, as they do when cancelled one at a time
+      if (status == OrderStatus.CANCELLED) {
+        eventPublisher.publishOrderCancelledEvents(updatedOrders);
+      } else {
+        eventPublisher.publishOrderUpdatedEvents(updatedOrders);
+      }
+    }
+
+    return List.copyOf(results.values());
   }
 
   @Override
@@ -118,12 +254,45 @@ public class OrderService
     // Only orders in CREATED or PAID status can be cancelled
     order.getStatus().validateTransition(OrderStatus.CANCELLED);
 
-    order.updateStatus(OrderStatus.CANCELLED);
+    transitionStatus(order, OrderStatus.CANCELLED);
 
-    Order savedOrder = orderRepository.save(order);
+    eventPublisher.publishOrderCancelledEvent(order);
 
-    eventPublisher.publishOrderCancelledEvent(savedOrder);
+    return order;
+  }
 
-    return savedOrder;
+  private Order replay(Order order, String customerId) {
+    if (!Objects.equals(order.getCustomerId(), customerId)) {
+      throw new IllegalArgumentException("Idempotency key was already used for another request");
+    }
+    return order;
+  }
+
+  private void transitionStatus(Order order, OrderStatus status) {
+    Long version =
+        orderRepository
+            .transitionStatus(order.getId(), order.getStatus(), status)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Order %s was modified concurrently".formatted(order.getId())));
+    order.updateStatus(status);
+    order.updateVersion(version);
+  }
+
+  private int pageLimit(int pageSize) {
+    if (pageSize < 1) {
+      throw new IllegalArgumentException("Page size must be positive");
+    }
+    return Math.min(pageSize, MAX_PAGE_SIZE);
+  }
+
+  // One extra row is fetched to know whether another page follows without counting
+  private OrderPage toPage(List<Order> orders, int limit) {
+    if (orders.size() <= limit) {
+      return new OrderPage(orders, null);
+    }
+    List<Order> page = List.copyOf(orders.subList(0, limit));
+    return new OrderPage(page, OrderCursor.of(page.get(limit - 1)));
   }
 }
@@ -0,0 +1,10 @@
+-- Create order_outbox table
+-- Order events are written here in the same transaction as the order and relayed to Kafka
+CREATE TABLE IF NOT EXISTS order_schema.order_outbox (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    topic VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+    );
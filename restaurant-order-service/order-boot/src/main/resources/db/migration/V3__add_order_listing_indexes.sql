@@ -0,0 +1,7 @@
+-- Indexes backing keyset pagination of order listings (newest first)
+CREATE INDEX IF NOT EXISTS idx_orders_created_at_id
+    ON order_schema.orders(created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_orders_customer_id_created_at_id
+    ON order_schema.orders(customer_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_orders_status_created_at_id
+    ON order_schema.orders(status, created_at DESC, id DESC);
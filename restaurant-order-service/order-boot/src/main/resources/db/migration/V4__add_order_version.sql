@@ -0,0 +1,2 @@
+-- Optimistic locking version for orders
+ALTER TABLE order_schema.orders ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- Create order_idempotency_key table
+-- Maps the Idempotency-Key sent with POST /orders to the order it created, so retries are not
+-- turned into duplicate orders. Rows older than the retention period are purged by the service.
+CREATE TABLE IF NOT EXISTS order_schema.order_idempotency_key (
+    idempotency_key VARCHAR(255) PRIMARY KEY,
+    order_id VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+    );
+
+CREATE INDEX IF NOT EXISTS idx_order_idempotency_key_created_at
+    ON order_schema.order_idempotency_key (created_at);
@@ -0,0 +1,9 @@
+-- Track failed relay attempts on outbox entries
+-- An entry that keeps failing is parked as FAILED after a bounded number of attempts, so it no
+-- longer takes a slot at the head of every relay batch.
+ALTER TABLE order_schema.order_outbox ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'PENDING';
+ALTER TABLE order_schema.order_outbox ADD COLUMN IF NOT EXISTS attempts INT NOT NULL DEFAULT 0;
+ALTER TABLE order_schema.order_outbox ADD COLUMN IF NOT EXISTS last_error VARCHAR(1000);
+
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending
+    ON order_schema.order_outbox (id) WHERE status = 'PENDING';
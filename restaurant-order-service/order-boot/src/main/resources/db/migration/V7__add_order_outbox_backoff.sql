@@ -0,0 +1,7 @@
+-- Back off outbox entries that failed and keep the events of one order in sequence
+-- A failed entry is not relayed again before next_attempt_at, and no entry is relayed while an
+-- earlier entry of the same order is still pending.
+ALTER TABLE order_schema.order_outbox ADD COLUMN IF NOT EXISTS next_attempt_at TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS idx_order_outbox_pending_aggregate
+    ON order_schema.order_outbox (aggregate_id, id) WHERE status = 'PENDING';
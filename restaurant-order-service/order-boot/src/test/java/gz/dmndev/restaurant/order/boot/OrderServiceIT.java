@@ -8,6 +8,7 @@ import com.github.tomakehurst.wiremock.client.WireMock;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.CreateOrderRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderItemRequest;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderPageResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.UpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.rest.MenuServiceClient;
@@ -107,6 +108,20 @@ class OrderServiceIT {
                                                                    "available": true
                                                                  }
                                                                 """)));
+
+    wiremock.stubFor(
+        WireMock.post(urlEqualTo("/menu-items/batch"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(
+                        """
+                        [
+                          {"id": "prod-1", "name": "Pizza Margherita", "price": 10.00, "available": true},
+                          {"id": "prod-2", "name": "Pizza Pepperoni", "price": 12.00, "available": true}
+                        ]
+                        """)));
   }
 
   @Test
@@ -158,6 +173,32 @@ class OrderServiceIT {
     assertEquals(new BigDecimal("35.2000"), orderResponse.total());
   }
 
+  @Test
+  void createOrder_shouldNotCreateDuplicate_whenRetriedWithSameIdempotencyKey() {
+    // Arrange
+    CreateOrderRequest request =
+        new CreateOrderRequest(
+            "cust-idempotent", "John Doe", List.of(new OrderItemRequest("prod-1", 1)), null);
+    HttpHeaders headers = new HttpHeaders();
+    headers.set("Idempotency-Key", "checkout-attempt-1");
+    HttpEntity<CreateOrderRequest> entity = new HttpEntity<>(request, headers);
+
+    // Act
+    ResponseEntity<OrderResponse> first =
+        restTemplate.postForEntity("/orders", entity, OrderResponse.class);
+    ResponseEntity<OrderResponse> retry =
+        restTemplate.postForEntity("/orders", entity, OrderResponse.class);
+
+    // Assert
+    assertEquals(HttpStatus.CREATED, first.getStatusCode());
+    assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+    assertEquals(first.getBody().id(), retry.getBody().id());
+
+    ResponseEntity<OrderPageResponse> orders =
+        restTemplate.getForEntity("/orders/customer/cust-idempotent", OrderPageResponse.class);
+    assertEquals(1, orders.getBody().orders().size());
+  }
+
   @Test
   void getOrderById_shouldReturnOrder_whenOrderExists() {
     // Arrange
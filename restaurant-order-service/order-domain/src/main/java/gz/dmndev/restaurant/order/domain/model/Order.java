@@ -31,6 +31,7 @@ public class Order {
   private final LocalDateTime createdAt;
   private LocalDateTime updatedAt;
   private String notes;
+  private Long version;
 
   // Métodos de negocio
   public void addItem(OrderItem item) {
@@ -50,6 +51,10 @@ public class Order {
     this.updatedAt = LocalDateTime.now();
   }
 
+  public void updateVersion(Long version) {
+    this.version = version;
+  }
+
   public void updateNotes(String notes) {
     this.notes = notes;
     this.updatedAt = LocalDateTime.now();
@@ -0,0 +1,14 @@
+package gz.dmndev.restaurant.order.domain.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of an order in the newest-first listing. Orders are sorted by creation time and then by
+ * id, so the pair identifies a single row even when several orders share a timestamp.
+ */
+public record OrderCursor(LocalDateTime createdAt, String id) {
+
+  public static OrderCursor of(Order order) {
+    return new OrderCursor(order.getCreatedAt(), order.getId());
+  }
+}
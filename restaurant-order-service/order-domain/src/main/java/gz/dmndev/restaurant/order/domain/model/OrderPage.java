@@ -0,0 +1,16 @@
+package gz.dmndev.restaurant.order.domain.model;
+
+import java.util.List;
+
+/**
+ * A bounded slice of an order listing.
+ *
+ * @param orders the orders in this page, newest first
+ * @param nextCursor where the next page starts, or {@code null} when this is the last page
+ */
+public record OrderPage(List<Order> orders, OrderCursor nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
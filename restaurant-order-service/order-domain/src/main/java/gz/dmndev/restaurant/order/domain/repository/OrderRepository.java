@@ -1,20 +1,37 @@
 package gz.dmndev.restaurant.order.domain.repository;
 
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
+  /** Stores an order that has never been saved. Unlike {@link #save}, no lookup by id is made. */
+  Order create(Order order);
+
   Order save(Order order);
 
   Optional<Order> findById(String id);
 
+  List<Order> findAllById(Collection<String> ids);
+
   List<Order> findByCustomerId(String customerId);
 
   List<Order> findByStatus(OrderStatus status);
 
   List<Order> findAll();
 
+  /**
+   * Returns at most {@code limit} orders, newest first, that come strictly after {@code after}.
+   * Starts from the newest order when {@code after} is {@code null}.
+   */
+  List<Order> findPage(OrderCursor after, int limit);
+
+  List<Order> findPageByCustomerId(String customerId, OrderCursor after, int limit);
+
+  List<Order> findPageByStatus(OrderStatus status, OrderCursor after, int limit);
+
   void deleteById(String id);
 }
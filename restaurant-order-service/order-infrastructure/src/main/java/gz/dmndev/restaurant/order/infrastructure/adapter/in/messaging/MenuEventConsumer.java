@@ -0,0 +1,43 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.in.messaging;
+
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.rest.MenuProductCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.stereotype.Component;
+
+/**
+ * Invalidates cached menu products when menu-service reports a change. Every local cache has to see
+ * every event, so the listener assigns itself the topic's partitions instead of joining a consumer
+ * group. Nothing is committed and no group is left behind on the broker when an instance restarts;
+ * a new instance starts from the latest offset, as its cache starts empty anyway. Set {@code
+ * restaurant.order.kafka.menu-events.partitions} (e.g. {@code 0-5}) if the topic has more than one
+ * partition.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MenuEventConsumer {
+
+  private final MenuProductCache productCache;
+
+  @KafkaListener(
+      topicPartitions =
+          @TopicPartition(
+              topic = KafkaTopics.MENU_EVENTS,
+              partitions = "${restaurant.order.kafka.menu-events.partitions:0}"),
+      containerFactory = "menuEventsListenerContainerFactory")
+  public void handleMenuEvent(ConsumerRecord<String, String> record) {
+    String menuItemId = record.key();
+    if (menuItemId == null) {
+      log.warn("Received menu event without key, clearing product cache");
+      productCache.invalidateAll();
+      return;
+    }
+    log.debug("Invalidating cached product {}", menuItemId);
+    productCache.invalidate(menuItemId);
+  }
+}
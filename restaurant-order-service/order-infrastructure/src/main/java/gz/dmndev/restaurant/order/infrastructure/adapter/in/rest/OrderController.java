@@ -4,9 +4,13 @@ package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest;
 
 import gz.dmndev.restaurant.order.application.port.in.*;
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderPage;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.BulkUpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.CreateOrderRequest;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderPageResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderResponse;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.StatusUpdateResultResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.UpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.mapper.OrderApiMapper;
 import jakarta.validation.Valid;
@@ -22,20 +26,33 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrderController {
 
+  private static final String DEFAULT_PAGE_SIZE = "20";
+  private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
   private final CreateOrderUseCase createOrderUseCase;
   private final GetOrderUseCase getOrderUseCase;
   private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
+  private final BulkUpdateOrderStatusUseCase bulkUpdateOrderStatusUseCase;
   private final CancelOrderUseCase cancelOrderUseCase;
   private final OrderApiMapper mapper;
 
   @PostMapping
-  public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+  public ResponseEntity<OrderResponse> createOrder(
+      @RequestHeader(name = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+      @Valid @RequestBody CreateOrderRequest request) {
     Order order =
-        createOrderUseCase.createOrder(
-            request.customerId(),
-            request.customerName(),
-            mapper.toOrderItemCommands(request.items()),
-            request.notes());
+        idempotencyKey == null
+            ? createOrderUseCase.createOrder(
+                request.customerId(),
+                request.customerName(),
+                mapper.toOrderItemCommands(request.items()),
+                request.notes())
+            : createOrderUseCase.createOrder(
+                idempotencyKey,
+                request.customerId(),
+                request.customerName(),
+                mapper.toOrderItemCommands(request.items()),
+                request.notes());
     return new ResponseEntity<>(mapper.toOrderResponse(order), HttpStatus.CREATED);
   }
 
@@ -48,31 +65,31 @@ public class OrderController {
   }
 
   @GetMapping
-  public ResponseEntity<List<OrderResponse>> getAllOrders() {
-    List<OrderResponse> orders =
-        getOrderUseCase.getAllOrders().stream()
-            .map(mapper::toOrderResponse)
-            .collect(Collectors.toList());
-    return new ResponseEntity<>(orders, HttpStatus.OK);
+  public ResponseEntity<OrderPageResponse> getAllOrders(
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+    OrderPage page = getOrderUseCase.getOrders(OrderPageToken.decode(pageToken), size);
+    return new ResponseEntity<>(toPageResponse(page), HttpStatus.OK);
   }
 
   @GetMapping("/customer/{customerId}")
-  public ResponseEntity<List<OrderResponse>> getOrdersByCustomerId(
-      @PathVariable String customerId) {
-    List<OrderResponse> orders =
-        getOrderUseCase.getOrdersByCustomerId(customerId).stream()
-            .map(mapper::toOrderResponse)
-            .collect(Collectors.toList());
-    return new ResponseEntity<>(orders, HttpStatus.OK);
+  public ResponseEntity<OrderPageResponse> getOrdersByCustomerId(
+      @PathVariable String customerId,
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+    OrderPage page =
+        getOrderUseCase.getOrdersByCustomerId(customerId, OrderPageToken.decode(pageToken), size);
+    return new ResponseEntity<>(toPageResponse(page), HttpStatus.OK);
   }
 
   @GetMapping("/status/{status}")
-  public ResponseEntity<List<OrderResponse>> getOrdersByStatus(@PathVariable OrderStatus status) {
-    List<OrderResponse> orders =
-        getOrderUseCase.getOrdersByStatus(status).stream()
-            .map(mapper::toOrderResponse)
-            .collect(Collectors.toList());
-    return new ResponseEntity<>(orders, HttpStatus.OK);
+  public ResponseEntity<OrderPageResponse> getOrdersByStatus(
+      @PathVariable OrderStatus status,
+      @RequestParam(required = false) String pageToken,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size) {
+    OrderPage page =
+        getOrderUseCase.getOrdersByStatus(status, OrderPageToken.decode(pageToken), size);
+    return new ResponseEntity<>(toPageResponse(page), HttpStatus.OK);
   }
 
   @PutMapping("/{id}/status")
@@ -82,9 +99,27 @@ public class OrderController {
     return new ResponseEntity<>(mapper.toOrderResponse(order), HttpStatus.OK);
   }
 
+  @PutMapping("/status")
+  public ResponseEntity<List<StatusUpdateResultResponse>> updateOrderStatuses(
+      @Valid @RequestBody BulkUpdateStatusRequest request) {
+    List<StatusUpdateResultResponse> results =
+        bulkUpdateOrderStatusUseCase
+            .updateOrderStatuses(request.orderIds(), request.status())
+            .stream()
+            .map(mapper::toStatusUpdateResultResponse)
+            .collect(Collectors.toList());
+    return new ResponseEntity<>(results, HttpStatus.OK);
+  }
+
   @PutMapping("/{id}/cancel")
   public ResponseEntity<OrderResponse> cancelOrder(@PathVariable String id) {
     Order order = cancelOrderUseCase.cancelOrder(id);
     return new ResponseEntity<>(mapper.toOrderResponse(order), HttpStatus.OK);
   }
+
+  private OrderPageResponse toPageResponse(OrderPage page) {
+    List<OrderResponse> orders =
+        page.orders().stream().map(mapper::toOrderResponse).collect(Collectors.toList());
+    return new OrderPageResponse(orders, OrderPageToken.encode(page.nextCursor()));
+  }
 }
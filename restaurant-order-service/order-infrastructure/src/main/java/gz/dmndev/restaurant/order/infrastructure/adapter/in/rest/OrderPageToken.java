@@ -0,0 +1,42 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest;
+
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/** Encodes order cursors as opaque, URL-safe continuation tokens. */
+final class OrderPageToken {
+
+  private static final String SEPARATOR = "|";
+
+  private OrderPageToken() {}
+
+  static String encode(OrderCursor cursor) {
+    if (cursor == null) {
+      return null;
+    }
+    String raw = cursor.createdAt() + SEPARATOR + cursor.id();
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static OrderCursor decode(String token) {
+    if (token == null || token.isBlank()) {
+      return null;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+      int separator = raw.indexOf(SEPARATOR);
+      if (separator < 0) {
+        throw new IllegalArgumentException("Invalid page token");
+      }
+      return new OrderCursor(
+          LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("Invalid page token", e);
+    }
+  }
+}
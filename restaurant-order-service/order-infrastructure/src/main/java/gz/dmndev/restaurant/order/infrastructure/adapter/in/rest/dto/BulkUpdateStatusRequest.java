@@ -0,0 +1,12 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto;
+
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase;
+import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record BulkUpdateStatusRequest(
+    @NotEmpty @Size(max = BulkUpdateOrderStatusUseCase.MAX_BULK_SIZE) List<String> orderIds,
+    @NotNull OrderStatus status) {}
@@ -0,0 +1,9 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto;
+
+import java.util.List;
+
+/**
+ * @param nextPageToken pass back as {@code pageToken} to get the next page; {@code null} on the
+ *     last page
+ */
+public record OrderPageResponse(List<OrderResponse> orders, String nextPageToken) {}
@@ -0,0 +1,6 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto;
+
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateOutcome;
+
+public record StatusUpdateResultResponse(
+    String orderId, StatusUpdateOutcome outcome, String message) {}
@@ -1,5 +1,6 @@
 package gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.mapper;
 
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateResult;
 import gz.dmndev.restaurant.order.application.port.in.CreateOrderUseCase;
 import gz.dmndev.restaurant.order.application.port.in.CreateOrderUseCase.OrderItemCommand;
 import gz.dmndev.restaurant.order.domain.model.Order;
@@ -7,6 +8,7 @@ import gz.dmndev.restaurant.order.domain.model.OrderItem;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderItemRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderItemResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderResponse;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.StatusUpdateResultResponse;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.mapstruct.Mapper;
@@ -18,6 +20,8 @@ public interface OrderApiMapper {
 
   OrderItemResponse toOrderItemResponse(OrderItem item);
 
+  StatusUpdateResultResponse toStatusUpdateResultResponse(StatusUpdateResult result);
+
   default OrderItemCommand toOrderItemCommand(OrderItemRequest request) {
     return new CreateOrderUseCase.OrderItemCommand(request.productId(), request.quantity());
   }
@@ -5,6 +5,7 @@ import gz.dmndev.restaurant.order.application.port.out.OrderEventPublisherPort;
 import gz.dmndev.restaurant.order.domain.model.Order;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.event.OrderEventDto;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.mapper.OrderEventMapper;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
@@ -28,9 +29,27 @@ public class OrderEventPublisherAdapter implements OrderEventPublisherPort {
     kafkaTemplate.send(KafkaTopics.ORDER_EVENTS, order.getId(), eventDto);
   }
 
+  @Override
+  public void publishOrderUpdatedEvents(List<Order> orders) {
+    for (Order order : orders) {
+      OrderEventDto eventDto = mapper.toOrderUpdatedEventDto(order);
+      kafkaTemplate.send(KafkaTopics.ORDER_EVENTS, order.getId(), eventDto);
+    }
+    kafkaTemplate.flush();
+  }
+
   @Override
   public void publishOrderCancelledEvent(Order order) {
     OrderEventDto eventDto = mapper.toOrderCancelledEventDto(order);
     kafkaTemplate.send(KafkaTopics.ORDER_EVENTS, order.getId(), eventDto);
   }
+
+  @Override
+  public void publishOrderCancelledEvents(List<Order> orders) {
+    for (Order order : orders) {
+      OrderEventDto eventDto = mapper.toOrderCancelledEventDto(order);
+      kafkaTemplate.send(KafkaTopics.ORDER_EVENTS, order.getId(), eventDto);
+    }
+    kafkaTemplate.flush();
+  }
 }
@@ -0,0 +1,93 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.common.messaging.serialization.EventJsonMapper;
+import gz.dmndev.restaurant.order.application.port.out.OrderEventPublisherPort;
+import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.event.OrderEventDto;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.mapper.OrderEventMapper;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderOutboxEntity;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderOutboxJpaRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Writes order events to the outbox table in the caller's transaction. The events only become
+ * visible to {@link OrderOutboxRelay} once the order change commits, and the request never waits on
+ * the broker. Payloads are written with {@link EventJsonMapper}, like every other event, so the
+ * relayed message is what {@code EventDeserializer} expects.
+ */
+@Primary
+@Component
+@ConditionalOnProperty(
+    name = "restaurant.order.outbox.enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OrderOutboxEventPublisherAdapter implements OrderEventPublisherPort {
+
+  private final OrderOutboxJpaRepository outboxRepository;
+  private final OrderEventMapper mapper;
+
+  @Override
+  public void publishOrderCreatedEvent(Order order) {
+    append(order, mapper.toOrderCreatedEventDto(order));
+  }
+
+  @Override
+  public void publishOrderUpdatedEvent(Order order) {
+    append(order, mapper.toOrderUpdatedEventDto(order));
+  }
+
+  @Override
+  public void publishOrderUpdatedEvents(List<Order> orders) {
+    List<OrderOutboxEntity> entries =
+        orders.stream().map(order -> toEntry(order, mapper.toOrderUpdatedEventDto(order))).toList();
+    outboxRepository.saveAll(entries);
+  }
+
+  @Override
+  public void publishOrderCancelledEvent(Order order) {
+    append(order, mapper.toOrderCancelledEventDto(order));
+  }
+
+  @Override
+  public void publishOrderCancelledEvents(List<Order> orders) {
+    List<OrderOutboxEntity> entries =
+        orders.stream()
+            .map(order -> toEntry(order, mapper.toOrderCancelledEventDto(order)))
+            .toList();
+    outboxRepository.saveAll(entries);
+  }
+
+  private void append(Order order, OrderEventDto eventDto) {
+    outboxRepository.save(toEntry(order, eventDto));
+  }
+
+  private OrderOutboxEntity toEntry(Order order, OrderEventDto eventDto) {
+    return OrderOutboxEntity.builder()
+        .aggregateId(order.getId())
+        .eventType(eventDto.getEventType())
+        .topic(KafkaTopics.ORDER_EVENTS)
+        .payload(serialize(eventDto))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  private String serialize(OrderEventDto eventDto) {
+    try {
+      return EventJsonMapper.writerFor(eventDto.getClass()).writeValueAsString(eventDto);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException(
+          "Could not serialize order event " + eventDto.getEventId(), e);
+    }
+  }
+}
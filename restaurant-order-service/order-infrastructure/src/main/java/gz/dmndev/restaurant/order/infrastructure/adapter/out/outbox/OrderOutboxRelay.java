@@ -0,0 +1,202 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.outbox;
+
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderOutboxEntity;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderOutboxJpaRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the order outbox to Kafka.
+ *
+ * <p>Each batch is locked with {@code FOR UPDATE SKIP LOCKED}, sent without waiting per record so
+ * the producer can batch them, and the entries whose send was acknowledged are deleted. The stored
+ * payload is sent as it is, so the message is byte for byte the event written with the order. Only
+ * the earliest pending event of an order is locked, so the events of one order are published in the
+ * order they were written; delivery is at-least-once.
+ *
+ * <p>A failed send never rolls the batch back: the attempt is counted on the entry in the same
+ * transaction that deletes the sent ones, and the entry is not retried before an exponential
+ * backoff of {@code retry-backoff-ms}, doubled per attempt up to {@code max-retry-backoff-ms}, has
+ * passed. The relay distinguishes two kinds of failure:
+ *
+ * <ul>
+ *   <li>Retriable errors and timeouts mean the broker is unavailable or busy. The entry is backed
+ *       off but never parked, since it will go through once the broker is back, and the relay stops
+ *       draining until the next poll.
+ *   <li>Any other error belongs to the record, such as a record that is too large or an invalid
+ *       topic. After {@code max-attempts} the entry is parked as {@link
+ *       OrderOutboxEntity.Status#FAILED} and no longer relayed.
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    name = {"restaurant.order.outbox.enabled", "restaurant.order.outbox.relay.enabled"},
+    havingValue = "true",
+    matchIfMissing = true)
+public class OrderOutboxRelay {
+
+  private static final int MAX_ERROR_LENGTH = 1000;
+
+  private final OrderOutboxJpaRepository outboxRepository;
+  private final KafkaTemplate<String, byte[]> kafkaTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final long sendTimeoutMs;
+  private final int maxAttempts;
+  private final long retryBackoffMs;
+  private final long maxRetryBackoffMs;
+
+  public OrderOutboxRelay(
+      OrderOutboxJpaRepository outboxRepository,
+      KafkaTemplate<String, byte[]> outboxKafkaTemplate,
+      PlatformTransactionManager transactionManager,
+      @Value("${restaurant.order.outbox.batch-size:100}") int batchSize,
+      @Value("${restaurant.order.outbox.send-timeout-ms:10000}") long sendTimeoutMs,
+      @Value("${restaurant.order.outbox.max-attempts:10}") int maxAttempts,
+      @Value("${restaurant.order.outbox.retry-backoff-ms:1000}") long retryBackoffMs,
+      @Value("${restaurant.order.outbox.max-retry-backoff-ms:300000}") long maxRetryBackoffMs) {
+    this.outboxRepository = outboxRepository;
+    this.kafkaTemplate = outboxKafkaTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = batchSize;
+    this.sendTimeoutMs = sendTimeoutMs;
+    this.maxAttempts = maxAttempts;
+    this.retryBackoffMs = retryBackoffMs;
+    this.maxRetryBackoffMs = maxRetryBackoffMs;
+  }
+
+  @Scheduled(fixedDelayString = "${restaurant.order.outbox.poll-interval-ms:200}")
+  public void relayPendingEvents() {
+    try {
+      Boolean drainAgain;
+      do {
+        drainAgain = transactionTemplate.execute(status -> relayBatch());
+      } while (Boolean.TRUE.equals(drainAgain));
+    } catch (Exception e) {
+      log.error("Error relaying order outbox: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Relays one batch and records the failed sends.
+   *
+   * @return whether another batch should be relayed right away: the batch was full and the broker
+   *     did not report itself unavailable
+   */
+  boolean relayBatch() {
+    LocalDateTime now = LocalDateTime.now();
+    List<OrderOutboxEntity> batch = outboxRepository.lockNextBatch(now, batchSize);
+    if (batch.isEmpty()) {
+      return false;
+    }
+
+    List<CompletableFuture<SendResult<String, byte[]>>> sends = new ArrayList<>(batch.size());
+    for (OrderOutboxEntity entry : batch) {
+      sends.add(send(entry));
+    }
+    kafkaTemplate.flush();
+
+    List<OrderOutboxEntity> sent = new ArrayList<>(batch.size());
+    List<OrderOutboxEntity> failed = new ArrayList<>();
+    boolean brokerUnavailable = false;
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+    for (int i = 0; i < batch.size(); i++) {
+      OrderOutboxEntity entry = batch.get(i);
+      try {
+        sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        sent.add(entry);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while relaying order outbox", e);
+      } catch (ExecutionException | TimeoutException e) {
+        Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+        boolean retriable = isRetriable(cause);
+        brokerUnavailable |= retriable;
+        recordFailure(entry, cause, retriable, now);
+        failed.add(entry);
+      }
+    }
+
+    if (!sent.isEmpty()) {
+      outboxRepository.deleteAllInBatch(sent);
+    }
+    if (!failed.isEmpty()) {
+      outboxRepository.saveAll(failed);
+    }
+    log.debug("Relayed {} order events, {} failed", sent.size(), failed.size());
+    return batch.size() == batchSize && !brokerUnavailable;
+  }
+
+  private CompletableFuture<SendResult<String, byte[]>> send(OrderOutboxEntity entry) {
+    try {
+      return kafkaTemplate.send(
+          entry.getTopic(),
+          entry.getAggregateId(),
+          entry.getPayload().getBytes(StandardCharsets.UTF_8));
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+  }
+
+  /**
+   * Whether the error says more about the broker than about the record. Spring Kafka wraps the
+   * producer's exception, so the whole cause chain is checked.
+   */
+  private static boolean isRetriable(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof RetriableException || cause instanceof TimeoutException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void recordFailure(
+      OrderOutboxEntity entry, Throwable cause, boolean retriable, LocalDateTime now) {
+    String message = String.valueOf(cause);
+    entry.setAttempts(entry.getAttempts() + 1);
+    entry.setLastError(
+        message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message);
+    entry.setNextAttemptAt(now.plus(backoff(entry.getAttempts()), ChronoUnit.MILLIS));
+    if (!retriable && entry.getAttempts() >= maxAttempts) {
+      entry.setStatus(OrderOutboxEntity.Status.FAILED);
+      log.error(
+          "Giving up on outbox entry {} ({} for order {}) after {} attempts: {}",
+          entry.getId(),
+          entry.getEventType(),
+          entry.getAggregateId(),
+          entry.getAttempts(),
+          message);
+    } else {
+      log.warn(
+          "Could not relay outbox entry {} (attempt {}), retrying at {}: {}",
+          entry.getId(),
+          entry.getAttempts(),
+          entry.getNextAttemptAt(),
+          message);
+    }
+  }
+
+  private long backoff(int attempts) {
+    int doublings = Math.min(attempts - 1, 30);
+    return Math.min(retryBackoffMs << doublings, maxRetryBackoffMs);
+  }
+}
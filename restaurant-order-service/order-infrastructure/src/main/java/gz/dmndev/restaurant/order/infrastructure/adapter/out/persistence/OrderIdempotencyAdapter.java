@@ -0,0 +1,106 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gz.dmndev.restaurant.order.application.port.out.OrderIdempotencyPort;
+import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderIdempotencyKeyJpaRepository;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Idempotency keys are stored in {@code order_idempotency_key}, which is the source of truth. The
+ * orders created for recent keys are also kept in memory so that a client retrying a request is
+ * answered without a database round trip.
+ */
+@Slf4j
+@Component
+@Transactional
+public class OrderIdempotencyAdapter implements OrderIdempotencyPort {
+
+  private final OrderIdempotencyKeyJpaRepository keyRepository;
+  private final OrderJpaRepository orderRepository;
+  private final OrderPersistenceMapper mapper;
+  private final Duration retention;
+  private final Cache<String, Order> recentOrders;
+
+  public OrderIdempotencyAdapter(
+      OrderIdempotencyKeyJpaRepository keyRepository,
+      OrderJpaRepository orderRepository,
+      OrderPersistenceMapper mapper,
+      @Value("${restaurant.order.idempotency.retention:24h}") Duration retention,
+      @Value("${restaurant.order.idempotency.cache.max-size:10000}") long maximumSize,
+      @Value("${restaurant.order.idempotency.cache.ttl:10m}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.keyRepository = keyRepository;
+    this.orderRepository = orderRepository;
+    this.mapper = mapper;
+    this.retention = retention;
+    this.recentOrders =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> GuavaCacheMetrics.monitor(registry, recentOrders, "order.idempotency"));
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public Optional<Order> findOrder(String idempotencyKey) {
+    Order cached = recentOrders.getIfPresent(idempotencyKey);
+    if (cached != null) {
+      return Optional.of(cached);
+    }
+    Optional<Order> order =
+        keyRepository
+            .findById(idempotencyKey)
+            .flatMap(key -> orderRepository.findById(key.getOrderId()))
+            .map(mapper::toDomainWithRelationships);
+    order.ifPresent(found -> recentOrders.put(idempotencyKey, found));
+    return order;
+  }
+
+  @Override
+  public boolean claim(String idempotencyKey, String orderId) {
+    return keyRepository.insertIfAbsent(idempotencyKey, orderId, LocalDateTime.now()) == 1;
+  }
+
+  @Override
+  public void remember(String idempotencyKey, Order order) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      recentOrders.put(idempotencyKey, order);
+      return;
+    }
+    // Caching before commit would let a replay see an order that is later rolled back
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            recentOrders.put(idempotencyKey, order);
+          }
+        });
+  }
+
+  @Scheduled(fixedDelayString = "${restaurant.order.idempotency.purge-interval-ms:3600000}")
+  public void purgeExpiredKeys() {
+    int purged = keyRepository.deleteCreatedBefore(LocalDateTime.now().minus(retention));
+    if (purged > 0) {
+      log.debug("Purged {} expired idempotency keys", purged);
+    }
+  }
+}
@@ -2,13 +2,21 @@ package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence;
 
 import gz.dmndev.restaurant.order.application.port.out.OrderRepositoryPort;
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderEntity;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +28,17 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
   private final OrderJpaRepository orderRepository;
   private final OrderPersistenceMapper mapper;
 
+  @Override
+  public Order create(Order order) {
+    var entity = mapper.toEntityWithRelationships(order);
+    entity.setNewEntity(true);
+    if (entity.getItems() != null) {
+      entity.getItems().forEach(item -> item.setNewEntity(true));
+    }
+    var savedEntity = orderRepository.save(entity);
+    return mapper.toDomainWithRelationships(savedEntity);
+  }
+
   @Override
   public Order save(Order order) {
     var entity = mapper.toEntityWithRelationships(order);
@@ -32,6 +51,11 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
     return orderRepository.findById(id).map(mapper::toDomainWithRelationships);
   }
 
+  @Override
+  public List<Order> findAllById(Collection<String> ids) {
+    return toDomain(orderRepository.findByIdIn(ids));
+  }
+
   @Override
   public List<Order> findByCustomerId(String customerId) {
     return orderRepository.findByCustomerId(customerId).stream()
@@ -53,8 +77,63 @@ public class OrderRepositoryAdapter implements OrderRepositoryPort {
         .collect(Collectors.toList());
   }
 
+  @Override
+  public List<Order> findPage(OrderCursor after, int limit) {
+    Pageable pageable = PageRequest.ofSize(limit);
+    List<OrderEntity> entities =
+        after == null
+            ? orderRepository.findAllByOrderByCreatedAtDescIdDesc(pageable)
+            : orderRepository.findPageAfter(after.createdAt(), after.id(), pageable);
+    return toDomain(entities);
+  }
+
+  @Override
+  public List<Order> findPageByCustomerId(String customerId, OrderCursor after, int limit) {
+    Pageable pageable = PageRequest.ofSize(limit);
+    List<OrderEntity> entities =
+        after == null
+            ? orderRepository.findByCustomerIdOrderByCreatedAtDescIdDesc(customerId, pageable)
+            : orderRepository.findPageByCustomerIdAfter(
+                customerId, after.createdAt(), after.id(), pageable);
+    return toDomain(entities);
+  }
+
+  @Override
+  public List<Order> findPageByStatus(OrderStatus status, OrderCursor after, int limit) {
+    Pageable pageable = PageRequest.ofSize(limit);
+    List<OrderEntity> entities =
+        after == null
+            ? orderRepository.findByStatusOrderByCreatedAtDescIdDesc(status, pageable)
+            : orderRepository.findPageByStatusAfter(
+                status, after.createdAt(), after.id(), pageable);
+    return toDomain(entities);
+  }
+
+  @Override
+  public Optional<Long> transitionStatus(String id, OrderStatus expectedFrom, OrderStatus to) {
+    return orderRepository.transitionStatus(
+        id, expectedFrom.name(), to.name(), LocalDateTime.now());
+  }
+
+  @Override
+  public Map<String, Long> transitionStatuses(
+      Collection<String> ids, OrderStatus expectedFrom, OrderStatus to) {
+    List<Object[]> rows =
+        orderRepository.transitionStatuses(
+            ids, expectedFrom.name(), to.name(), LocalDateTime.now());
+    Map<String, Long> versions = new HashMap<>(rows.size() * 2);
+    for (Object[] row : rows) {
+      versions.put((String) row[0], ((Number) row[1]).longValue());
+    }
+    return versions;
+  }
+
   @Override
   public void deleteById(String id) {
     orderRepository.deleteById(id);
   }
+
+  private List<Order> toDomain(List<OrderEntity> entities) {
+    return entities.stream().map(mapper::toDomainWithRelationships).collect(Collectors.toList());
+  }
 }
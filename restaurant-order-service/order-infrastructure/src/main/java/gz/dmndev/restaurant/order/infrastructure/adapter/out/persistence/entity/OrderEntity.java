@@ -9,6 +9,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "orders")
@@ -16,7 +18,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderEntity {
+public class OrderEntity implements Persistable<String> {
   @Id private String id;
 
   @Column(name = "customer_id", nullable = false)
@@ -47,6 +49,27 @@ public class OrderEntity {
   @Column(columnDefinition = "TEXT")
   private String notes;
 
+  @Version private Long version;
+
+  // Initialising the items of one order in a page loads the items of the whole page in one query
+  @BatchSize(size = 100)
   @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
   private List<OrderItemEntity> items;
+
+  /**
+   * Set by the persistence adapter for rows it knows are new, so that saving them issues a plain
+   * INSERT instead of a merge that first SELECTs by id.
+   */
+  @Transient private boolean newEntity;
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    newEntity = false;
+  }
 }
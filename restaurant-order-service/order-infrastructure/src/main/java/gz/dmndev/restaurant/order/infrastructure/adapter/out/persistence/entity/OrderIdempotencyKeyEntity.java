@@ -0,0 +1,28 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "order_idempotency_key",
+    indexes = @Index(name = "idx_order_idempotency_key_created_at", columnList = "created_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyKeyEntity {
+  @Id
+  @Column(name = "idempotency_key")
+  private String idempotencyKey;
+
+  @Column(name = "order_id", nullable = false)
+  private String orderId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "order_items")
@@ -13,7 +14,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class OrderItemEntity {
+public class OrderItemEntity implements Persistable<String> {
   @Id private String id;
 
   @ManyToOne(fetch = FetchType.LAZY)
@@ -34,4 +35,18 @@ public class OrderItemEntity {
 
   @Column(name = "total_price", nullable = false)
   private BigDecimal totalPrice;
+
+  // See OrderEntity#newEntity
+  @Transient private boolean newEntity;
+
+  @Override
+  public boolean isNew() {
+    return newEntity;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    newEntity = false;
+  }
 }
@@ -13,10 +13,12 @@ import org.mapstruct.Mapping;
 public interface OrderPersistenceMapper {
 
   @Mapping(target = "items", ignore = true)
+  @Mapping(target = "newEntity", ignore = true)
   OrderEntity toEntity(Order order);
 
   Order toDomain(OrderEntity entity);
 
+  @Mapping(target = "newEntity", ignore = true)
   OrderItemEntity toItemEntity(OrderItem item);
 
   @Mapping(target = "id", source = "id")
@@ -0,0 +1,33 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderIdempotencyKeyEntity;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderIdempotencyKeyJpaRepository
+    extends JpaRepository<OrderIdempotencyKeyEntity, String> {
+
+  /**
+   * Inserts the key unless it exists. A concurrent insert of the same key blocks here until the
+   * other transaction ends, so at most one of them gets a row count of 1.
+   */
+  @Modifying
+  @Query(
+      value =
+          "INSERT INTO {h-schema}order_idempotency_key (idempotency_key, order_id, created_at)"
+              + " VALUES (:key, :orderId, :createdAt) ON CONFLICT DO NOTHING",
+      nativeQuery = true)
+  int insertIfAbsent(
+      @Param("key") String key,
+      @Param("orderId") String orderId,
+      @Param("createdAt") LocalDateTime createdAt);
+
+  @Modifying
+  @Query("DELETE FROM OrderIdempotencyKeyEntity k WHERE k.createdAt < :cutoff")
+  int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -2,13 +2,101 @@ package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.reposi
 
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderEntity;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, String> {
+  @Override
+  @EntityGraph(attributePaths = "items")
+  Optional<OrderEntity> findById(String id);
+
+  @Override
+  @EntityGraph(attributePaths = "items")
+  List<OrderEntity> findAll();
+
+  @EntityGraph(attributePaths = "items")
+  List<OrderEntity> findByIdIn(Collection<String> ids);
+
+  @EntityGraph(attributePaths = "items")
   List<OrderEntity> findByCustomerId(String customerId);
 
+  @EntityGraph(attributePaths = "items")
   List<OrderEntity> findByStatus(OrderStatus status);
+
+  // Keyset pagination, newest first. Pageable only carries the limit, so no count query is issued.
+  // Items are not fetch-joined here since that would apply the limit in memory; they are batch
+  // loaded instead (see OrderEntity#items).
+
+  List<OrderEntity> findAllByOrderByCreatedAtDescIdDesc(Pageable pageable);
+
+  @Query(
+      "SELECT o FROM OrderEntity o WHERE (o.createdAt, o.id) < (:createdAt, :id)"
+          + " ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderEntity> findPageAfter(
+      @Param("createdAt") LocalDateTime createdAt, @Param("id") String id, Pageable pageable);
+
+  List<OrderEntity> findByCustomerIdOrderByCreatedAtDescIdDesc(
+      String customerId, Pageable pageable);
+
+  @Query(
+      "SELECT o FROM OrderEntity o WHERE o.customerId = :customerId"
+          + " AND (o.createdAt, o.id) < (:createdAt, :id)"
+          + " ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderEntity> findPageByCustomerIdAfter(
+      @Param("customerId") String customerId,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      Pageable pageable);
+
+  List<OrderEntity> findByStatusOrderByCreatedAtDescIdDesc(OrderStatus status, Pageable pageable);
+
+  @Query(
+      "SELECT o FROM OrderEntity o WHERE o.status = :status"
+          + " AND (o.createdAt, o.id) < (:createdAt, :id)"
+          + " ORDER BY o.createdAt DESC, o.id DESC")
+  List<OrderEntity> findPageByStatusAfter(
+      @Param("status") OrderStatus status,
+      @Param("createdAt") LocalDateTime createdAt,
+      @Param("id") String id,
+      Pageable pageable);
+
+  /**
+   * Conditional status change in one statement. Runs as a query rather than a modifying update so
+   * that Postgres can hand back the bumped version through RETURNING.
+   */
+  @Query(
+      value =
+          "UPDATE {h-schema}orders SET status = :to, updated_at = :updatedAt,"
+              + " version = version + 1"
+              + " WHERE id = :id AND status = :expectedFrom"
+              + " RETURNING version",
+      nativeQuery = true)
+  Optional<Long> transitionStatus(
+      @Param("id") String id,
+      @Param("expectedFrom") String expectedFrom,
+      @Param("to") String to,
+      @Param("updatedAt") LocalDateTime updatedAt);
+
+  /** Bulk variant of {@link #transitionStatus}; each row is {@code [id, version]}. */
+  @Query(
+      value =
+          "UPDATE {h-schema}orders SET status = :to, updated_at = :updatedAt,"
+              + " version = version + 1"
+              + " WHERE id IN (:ids) AND status = :expectedFrom"
+              + " RETURNING id, version",
+      nativeQuery = true)
+  List<Object[]> transitionStatuses(
+      @Param("ids") Collection<String> ids,
+      @Param("expectedFrom") String expectedFrom,
+      @Param("to") String to,
+      @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,33 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository;
+
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderOutboxEntity;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntity, Long> {
+
+  /**
+   * Locks the oldest pending events that are due. Rows already locked by another relay are skipped,
+   * so several instances can drain the outbox concurrently without publishing the same event twice.
+   * Entries parked as failed are left out.
+   *
+   * <p>Only the earliest pending event of each order is returned: a later event waits, even on
+   * another instance, until the one before it was sent or parked, so the events of an order reach
+   * Kafka in sequence.
+   */
+  @Query(
+      value =
+          "SELECT * FROM {h-schema}order_outbox o WHERE o.status = 'PENDING'"
+              + " AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= :now)"
+              + " AND NOT EXISTS (SELECT 1 FROM {h-schema}order_outbox earlier"
+              + " WHERE earlier.aggregate_id = o.aggregate_id AND earlier.status = 'PENDING'"
+              + " AND earlier.id < o.id)"
+              + " ORDER BY o.id LIMIT :limit FOR UPDATE OF o SKIP LOCKED",
+      nativeQuery = true)
+  List<OrderOutboxEntity> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
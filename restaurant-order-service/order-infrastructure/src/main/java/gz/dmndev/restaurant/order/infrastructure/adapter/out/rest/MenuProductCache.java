@@ -0,0 +1,83 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.rest;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import gz.dmndev.restaurant.order.application.port.out.MenuServicePort.ProductInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of menu products looked up by the order service.
+ *
+ * <p>Entries are evicted by size and by age. The age limit only bounds staleness when a menu change
+ * event is missed; in the normal case entries are invalidated as soon as menu-service publishes a
+ * change for the product.
+ *
+ * <p>A load from menu-service can race with an invalidation: the product is read, the menu change
+ * is consumed, then the old value is put back. Callers therefore take the cache {@link
+ * #generation()} before loading and hand it to {@link #put}; the value is dropped if anything was
+ * invalidated in between, so an invalidation always wins.
+ */
+@Component
+public class MenuProductCache {
+
+  private final Cache<String, ProductInfo> cache;
+  private volatile long generation;
+
+  public MenuProductCache(
+      @Value("${restaurant.menu-service.cache.max-size:10000}") long maximumSize,
+      @Value("${restaurant.menu-service.cache.ttl:5s}") Duration ttl,
+      ObjectProvider<MeterRegistry> meterRegistry) {
+    this.cache =
+        CacheBuilder.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+    meterRegistry.ifAvailable(
+        registry -> GuavaCacheMetrics.monitor(registry, cache, "menu.products"));
+  }
+
+  public Optional<ProductInfo> get(String productId) {
+    return Optional.ofNullable(cache.getIfPresent(productId));
+  }
+
+  public Map<String, ProductInfo> getAll(Collection<String> productIds) {
+    return cache.getAllPresent(productIds);
+  }
+
+  /** The current generation, to be taken before loading products that will be put in the cache. */
+  public long generation() {
+    return generation;
+  }
+
+  /** Cache a product loaded at the given generation, unless it has been invalidated since. */
+  public synchronized void put(ProductInfo product, long loadedAt) {
+    if (generation == loadedAt) {
+      cache.put(product.id(), product);
+    }
+  }
+
+  public synchronized void putAll(Collection<ProductInfo> products, long loadedAt) {
+    if (generation == loadedAt) {
+      products.forEach(product -> cache.put(product.id(), product));
+    }
+  }
+
+  public synchronized void invalidate(String productId) {
+    generation++;
+    cache.invalidate(productId);
+  }
+
+  public synchronized void invalidateAll() {
+    generation++;
+    cache.invalidateAll();
+  }
+}
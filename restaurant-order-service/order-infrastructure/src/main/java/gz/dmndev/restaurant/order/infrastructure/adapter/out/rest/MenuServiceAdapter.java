@@ -1,6 +1,10 @@
 package gz.dmndev.restaurant.order.infrastructure.adapter.out.rest;
 
 import gz.dmndev.restaurant.order.application.port.out.MenuServicePort;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,16 +16,51 @@ import org.springframework.stereotype.Component;
 public class MenuServiceAdapter implements MenuServicePort {
 
   private final MenuServiceClient menuServiceClient;
+  private final MenuProductCache productCache;
 
   @Override
   public Optional<ProductInfo> getProduct(String productId) {
+    Optional<ProductInfo> cached = productCache.get(productId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    long generation = productCache.generation();
     try {
       var response = menuServiceClient.getProduct(productId);
-      return Optional.of(
-          new ProductInfo(response.id(), response.name(), response.price(), response.available()));
+      ProductInfo productInfo = toProductInfo(response);
+      productCache.put(productInfo, generation);
+      return Optional.of(productInfo);
     } catch (Exception e) {
       log.error(e.getMessage(), e);
       return Optional.empty();
     }
   }
+
+  @Override
+  public Map<String, ProductInfo> getProducts(Collection<String> productIds) {
+    if (productIds == null || productIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<String, ProductInfo> products = new HashMap<>(productCache.getAll(productIds));
+    List<String> missingIds = productIds.stream().filter(id -> !products.containsKey(id)).toList();
+    if (missingIds.isEmpty()) {
+      return products;
+    }
+    long generation = productCache.generation();
+    try {
+      List<MenuServiceClient.ProductResponse> responses = menuServiceClient.getProducts(missingIds);
+      if (responses != null) {
+        List<ProductInfo> loaded = responses.stream().map(this::toProductInfo).toList();
+        productCache.putAll(loaded, generation);
+        loaded.forEach(productInfo -> products.putIfAbsent(productInfo.id(), productInfo));
+      }
+    } catch (Exception e) {
+      log.error(e.getMessage(), e);
+    }
+    return products;
+  }
+
+  private ProductInfo toProductInfo(MenuServiceClient.ProductResponse response) {
+    return new ProductInfo(response.id(), response.name(), response.price(), response.available());
+  }
 }
@@ -3,10 +3,14 @@ package gz.dmndev.restaurant.order.infrastructure.adapter.out.rest;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import gz.dmndev.restaurant.order.infrastructure.config.FeignConfig;
 import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 @FeignClient(name = "menu-service", configuration = FeignConfig.class)
 @Profile("!test")
@@ -15,6 +19,9 @@ public interface MenuServiceClient {
   @GetMapping("/menu-items/{productId}")
   ProductResponse getProduct(@PathVariable("productId") String productId);
 
+  @PostMapping("/menu-items/batch")
+  List<ProductResponse> getProducts(@RequestBody Collection<String> productIds);
+
   @JsonIgnoreProperties(ignoreUnknown = true)
   record ProductResponse(String id, String name, BigDecimal price, boolean available) {}
 }
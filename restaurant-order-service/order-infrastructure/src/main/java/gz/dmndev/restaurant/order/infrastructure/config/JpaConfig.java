@@ -1,5 +1,9 @@
 package gz.dmndev.restaurant.order.infrastructure.config;
 
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
@@ -8,4 +12,19 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 @EnableJpaRepositories(
     basePackages = "gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository")
 @EnableTransactionManagement
-public class JpaConfig {}
+public class JpaConfig {
+
+  /**
+   * Groups the INSERTs of an order and its items into JDBC batches. Explicit spring.jpa.properties
+   * values still take precedence.
+   */
+  @Bean
+  public HibernatePropertiesCustomizer jdbcBatchingCustomizer(
+      @Value("${restaurant.order.jdbc.batch-size:50}") int batchSize) {
+    return properties -> {
+      properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+      properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+      properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+    };
+  }
+}
@@ -1,19 +1,25 @@
 package gz.dmndev.restaurant.order.infrastructure.config;
 
 import gz.dmndev.restaurant.common.messaging.config.KafkaCommonConfig;
+import gz.dmndev.restaurant.common.messaging.serialization.EventSerializer;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.event.OrderEventDto;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 @Configuration
 @Import(KafkaCommonConfig.class)
@@ -22,12 +28,20 @@ public class KafkaConfig {
   @Value("${spring.kafka.bootstrap-servers}")
   private String bootstrapServers;
 
+  @Value("${restaurant.order.kafka.producer.linger-ms:5}")
+  private int lingerMs;
+
+  @Value("${restaurant.order.kafka.producer.batch-size:65536}")
+  private int batchSize;
+
+  // Boot only applies this to the listener factory it creates itself
+  @Value("${spring.threads.virtual.enabled:false}")
+  private boolean virtualThreads;
+
   @Bean
   public ProducerFactory<String, OrderEventDto> producerFactory() {
-    Map<String, Object> configProps = new HashMap<>();
-    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-    configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+    Map<String, Object> configProps = producerProps();
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, EventSerializer.class);
     return new DefaultKafkaProducerFactory<>(configProps);
   }
 
@@ -35,4 +49,49 @@ public class KafkaConfig {
   public KafkaTemplate<String, OrderEventDto> kafkaTemplate() {
     return new KafkaTemplate<>(producerFactory());
   }
+
+  /** Template for the outbox relay, which sends the stored event JSON exactly as it was written. */
+  @Bean
+  public KafkaTemplate<String, byte[]> outboxKafkaTemplate() {
+    Map<String, Object> configProps = producerProps();
+    configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+    return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configProps));
+  }
+
+  private Map<String, Object> producerProps() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+    // The outbox relay sends whole batches at once, give the producer room to group them
+    configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+    configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+    configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    return configProps;
+  }
+
+  /**
+   * Listener factory for menu-change events. Only the record key (the menu item id) is needed to
+   * invalidate the product cache, so values are read as plain strings and never bound to a type.
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, String>
+      menuEventsListenerContainerFactory() {
+    Map<String, Object> configProps = new HashMap<>();
+    configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+    configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+    // The listener assigns its partitions without a group, so there is nowhere to commit offsets
+    configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+    ConcurrentKafkaListenerContainerFactory<String, String> factory =
+        new ConcurrentKafkaListenerContainerFactory<>();
+    factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+    if (virtualThreads) {
+      factory
+          .getContainerProperties()
+          .setListenerTaskExecutor(new VirtualThreadTaskExecutor("menu-events-"));
+    }
+    return factory;
+  }
 }
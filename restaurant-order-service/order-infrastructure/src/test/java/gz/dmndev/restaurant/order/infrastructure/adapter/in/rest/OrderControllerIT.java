@@ -7,18 +7,24 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import gz.dmndev.restaurant.order.application.port.in.*;
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateOutcome;
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateResult;
 import gz.dmndev.restaurant.order.domain.model.Order;
 import gz.dmndev.restaurant.order.domain.model.OrderItem;
+import gz.dmndev.restaurant.order.domain.model.OrderPage;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.BulkUpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.CreateOrderRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderItemRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderResponse;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.StatusUpdateResultResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.UpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.mapper.OrderApiMapper;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -47,6 +53,8 @@ class OrderControllerIT {
 
   @MockitoBean private UpdateOrderStatusUseCase updateOrderStatusUseCase;
 
+  @MockitoBean private BulkUpdateOrderStatusUseCase bulkUpdateOrderStatusUseCase;
+
   @MockitoBean private CancelOrderUseCase cancelOrderUseCase;
 
   @MockitoBean private OrderApiMapper mapper;
@@ -114,6 +122,28 @@ class OrderControllerIT {
         .andExpect(jsonPath("$.status").value("CREATED"));
   }
 
+  @Test
+  void createOrder_shouldForwardIdempotencyKeyHeader() throws Exception {
+    // Arrange
+    CreateOrderRequest request =
+        new CreateOrderRequest(
+            "cust-1", "Test Customer", List.of(new OrderItemRequest("prod-1", 2)), "Test order");
+
+    when(createOrderUseCase.createOrder(eq("retry-key"), any(), any(), any(), any()))
+        .thenReturn(testOrder);
+    when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            post("/orders")
+                .header("Idempotency-Key", "retry-key")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isCreated())
+        .andExpect(jsonPath("$.id").value("order-1"));
+  }
+
   @Test
   void getOrderById_shouldReturn200AndOrder_whenOrderExists() throws Exception {
     // Arrange
@@ -140,43 +170,46 @@ class OrderControllerIT {
   @Test
   void getAllOrders_shouldReturn200AndOrderList() throws Exception {
     // Arrange
-    when(getOrderUseCase.getAllOrders()).thenReturn(List.of(testOrder));
+    when(getOrderUseCase.getOrders(null, 20)).thenReturn(new OrderPage(List.of(testOrder), null));
     when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
 
     // Act & Assert
     mockMvc
         .perform(get("/orders"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$[0].id").value("order-1"))
-        .andExpect(jsonPath("$[0].customerId").value("cust-1"));
+        .andExpect(jsonPath("$.orders[0].id").value("order-1"))
+        .andExpect(jsonPath("$.orders[0].customerId").value("cust-1"))
+        .andExpect(jsonPath("$.nextPageToken").doesNotExist());
   }
 
   @Test
   void getOrdersByCustomerId_shouldReturn200AndOrderList() throws Exception {
     // Arrange
-    when(getOrderUseCase.getOrdersByCustomerId("cust-1")).thenReturn(List.of(testOrder));
+    when(getOrderUseCase.getOrdersByCustomerId("cust-1", null, 10))
+        .thenReturn(new OrderPage(List.of(testOrder), null));
     when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
 
     // Act & Assert
     mockMvc
-        .perform(get("/orders/customer/cust-1"))
+        .perform(get("/orders/customer/cust-1").param("size", "10"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$[0].id").value("order-1"))
-        .andExpect(jsonPath("$[0].customerId").value("cust-1"));
+        .andExpect(jsonPath("$.orders[0].id").value("order-1"))
+        .andExpect(jsonPath("$.orders[0].customerId").value("cust-1"));
   }
 
   @Test
   void getOrdersByStatus_shouldReturn200AndOrderList() throws Exception {
     // Arrange
-    when(getOrderUseCase.getOrdersByStatus(OrderStatus.CREATED)).thenReturn(List.of(testOrder));
+    when(getOrderUseCase.getOrdersByStatus(OrderStatus.CREATED, null, 20))
+        .thenReturn(new OrderPage(List.of(testOrder), null));
     when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
 
     // Act & Assert
     mockMvc
         .perform(get("/orders/status/CREATED"))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$[0].id").value("order-1"))
-        .andExpect(jsonPath("$[0].status").value("CREATED"));
+        .andExpect(jsonPath("$.orders[0].id").value("order-1"))
+        .andExpect(jsonPath("$.orders[0].status").value("CREATED"));
   }
 
   @Test
@@ -199,6 +232,64 @@ class OrderControllerIT {
         .andExpect(jsonPath("$.status").value("CREATED")); // Asume que el mock no cambia el estado
   }
 
+  @Test
+  void updateOrderStatuses_shouldReturn200AndPerOrderResults() throws Exception {
+    // Arrange
+    BulkUpdateStatusRequest request =
+        new BulkUpdateStatusRequest(List.of("order-1", "order-2"), OrderStatus.OUT_FOR_DELIVERY);
+    StatusUpdateResult updated =
+        new StatusUpdateResult("order-1", StatusUpdateOutcome.UPDATED, null);
+    StatusUpdateResult conflict =
+        new StatusUpdateResult("order-2", StatusUpdateOutcome.CONFLICT, "modified concurrently");
+
+    when(bulkUpdateOrderStatusUseCase.updateOrderStatuses(
+            List.of("order-1", "order-2"), OrderStatus.OUT_FOR_DELIVERY))
+        .thenReturn(List.of(updated, conflict));
+    when(mapper.toStatusUpdateResultResponse(updated))
+        .thenReturn(new StatusUpdateResultResponse("order-1", StatusUpdateOutcome.UPDATED, null));
+    when(mapper.toStatusUpdateResultResponse(conflict))
+        .thenReturn(
+            new StatusUpdateResultResponse(
+                "order-2", StatusUpdateOutcome.CONFLICT, "modified concurrently"));
+
+    // Act & Assert
+    mockMvc
+        .perform(
+            put("/orders/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].orderId").value("order-1"))
+        .andExpect(jsonPath("$[0].outcome").value("UPDATED"))
+        .andExpect(jsonPath("$[1].orderId").value("order-2"))
+        .andExpect(jsonPath("$[1].outcome").value("CONFLICT"));
+  }
+
+  @Test
+  void updateOrderStatuses_shouldReturn400_whenRequestIsInvalid() throws Exception {
+    // Arrange
+    List<String> tooManyIds =
+        IntStream.rangeClosed(0, BulkUpdateOrderStatusUseCase.MAX_BULK_SIZE)
+            .mapToObj(i -> "order-" + i)
+            .toList();
+    List<BulkUpdateStatusRequest> requests =
+        List.of(
+            new BulkUpdateStatusRequest(List.of(), OrderStatus.PAID),
+            new BulkUpdateStatusRequest(tooManyIds, OrderStatus.PAID),
+            new BulkUpdateStatusRequest(List.of("order-1"), null));
+
+    // Act & Assert
+    for (BulkUpdateStatusRequest request : requests) {
+      mockMvc
+          .perform(
+              put("/orders/status")
+                  .contentType(MediaType.APPLICATION_JSON)
+                  .content(objectMapper.writeValueAsString(request)))
+          .andExpect(status().isBadRequest());
+    }
+    verifyNoInteractions(bulkUpdateOrderStatusUseCase);
+  }
+
   @Test
   void cancelOrder_shouldReturn200AndCancelledOrder() throws Exception {
     // Arrange
@@ -5,12 +5,19 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import gz.dmndev.restaurant.order.application.port.in.*;
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateOutcome;
+import gz.dmndev.restaurant.order.application.port.in.BulkUpdateOrderStatusUseCase.StatusUpdateResult;
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
 import gz.dmndev.restaurant.order.domain.model.OrderItem;
+import gz.dmndev.restaurant.order.domain.model.OrderPage;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.BulkUpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.CreateOrderRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderItemRequest;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderPageResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.OrderResponse;
+import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.StatusUpdateResultResponse;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.dto.UpdateStatusRequest;
 import gz.dmndev.restaurant.order.infrastructure.adapter.in.rest.mapper.OrderApiMapper;
 import java.math.BigDecimal;
@@ -35,6 +42,8 @@ class OrderControllerTest {
 
   @Mock private UpdateOrderStatusUseCase updateOrderStatusUseCase;
 
+  @Mock private BulkUpdateOrderStatusUseCase bulkUpdateOrderStatusUseCase;
+
   @Mock private CancelOrderUseCase cancelOrderUseCase;
 
   @Mock private OrderApiMapper mapper;
@@ -96,7 +105,7 @@ class OrderControllerTest {
     when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
 
     // Act
-    ResponseEntity<OrderResponse> response = controller.createOrder(createRequest);
+    ResponseEntity<OrderResponse> response = controller.createOrder(null, createRequest);
 
     // Assert
     assertEquals(HttpStatus.CREATED, response.getStatusCode());
@@ -109,6 +118,25 @@ class OrderControllerTest {
             createRequest.notes());
   }
 
+  @Test
+  void createOrder_shouldPassIdempotencyKey_whenPresent() {
+    // Arrange
+    when(mapper.toOrderItemCommands(anyList())).thenReturn(orderItemCommands);
+    when(createOrderUseCase.createOrder(
+            eq("key-1"), anyString(), anyString(), anyList(), anyString()))
+        .thenReturn(testOrder);
+    when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
+
+    // Act
+    ResponseEntity<OrderResponse> response = controller.createOrder("key-1", createRequest);
+
+    // Assert
+    assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    assertEquals(testOrderResponse, response.getBody());
+    verify(createOrderUseCase, never())
+        .createOrder(anyString(), anyString(), anyList(), anyString());
+  }
+
   @Test
   void getOrderById_shouldReturnOrder_whenFound() {
     // Arrange
@@ -139,18 +167,44 @@ class OrderControllerTest {
   }
 
   @Test
-  void getAllOrders_shouldReturnAllOrders() {
+  void getAllOrders_shouldReturnFirstPage() {
     // Arrange
-    when(getOrderUseCase.getAllOrders()).thenReturn(List.of(testOrder));
+    when(getOrderUseCase.getOrders(null, 20)).thenReturn(new OrderPage(List.of(testOrder), null));
     when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
 
     // Act
-    ResponseEntity<List<OrderResponse>> response = controller.getAllOrders();
+    ResponseEntity<OrderPageResponse> response = controller.getAllOrders(null, 20);
 
     // Assert
     assertEquals(HttpStatus.OK, response.getStatusCode());
-    assertEquals(1, response.getBody().size());
-    assertEquals(testOrderResponse, response.getBody().get(0));
+    assertEquals(1, response.getBody().orders().size());
+    assertEquals(testOrderResponse, response.getBody().orders().get(0));
+    assertNull(response.getBody().nextPageToken());
+  }
+
+  @Test
+  void getAllOrders_shouldRoundTripContinuationToken() {
+    // Arrange
+    OrderCursor cursor = OrderCursor.of(testOrder);
+    when(getOrderUseCase.getOrders(null, 1)).thenReturn(new OrderPage(List.of(testOrder), cursor));
+    when(getOrderUseCase.getOrders(cursor, 1)).thenReturn(new OrderPage(List.of(), null));
+    when(mapper.toOrderResponse(testOrder)).thenReturn(testOrderResponse);
+
+    // Act
+    String token = controller.getAllOrders(null, 1).getBody().nextPageToken();
+    ResponseEntity<OrderPageResponse> response = controller.getAllOrders(token, 1);
+
+    // Assert
+    assertNotNull(token);
+    assertTrue(response.getBody().orders().isEmpty());
+    verify(getOrderUseCase).getOrders(cursor, 1);
+  }
+
+  @Test
+  void getAllOrders_shouldRejectMalformedToken() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> controller.getAllOrders("not-a-token", 20));
+    verifyNoInteractions(getOrderUseCase);
   }
 
   @Test
@@ -172,6 +226,34 @@ class OrderControllerTest {
     verify(updateOrderStatusUseCase).updateOrderStatus(orderId, OrderStatus.PAID);
   }
 
+  @Test
+  void updateOrderStatuses_shouldReturnOneResultPerOrder() {
+    // Arrange
+    BulkUpdateStatusRequest request =
+        new BulkUpdateStatusRequest(List.of("order-1", "order-2"), OrderStatus.PAID);
+    StatusUpdateResult updated =
+        new StatusUpdateResult("order-1", StatusUpdateOutcome.UPDATED, null);
+    StatusUpdateResult notFound =
+        new StatusUpdateResult("order-2", StatusUpdateOutcome.NOT_FOUND, "Order not found");
+    StatusUpdateResultResponse updatedResponse =
+        new StatusUpdateResultResponse("order-1", StatusUpdateOutcome.UPDATED, null);
+    StatusUpdateResultResponse notFoundResponse =
+        new StatusUpdateResultResponse("order-2", StatusUpdateOutcome.NOT_FOUND, "Order not found");
+
+    when(bulkUpdateOrderStatusUseCase.updateOrderStatuses(request.orderIds(), OrderStatus.PAID))
+        .thenReturn(List.of(updated, notFound));
+    when(mapper.toStatusUpdateResultResponse(updated)).thenReturn(updatedResponse);
+    when(mapper.toStatusUpdateResultResponse(notFound)).thenReturn(notFoundResponse);
+
+    // Act
+    ResponseEntity<List<StatusUpdateResultResponse>> response =
+        controller.updateOrderStatuses(request);
+
+    // Assert
+    assertEquals(HttpStatus.OK, response.getStatusCode());
+    assertEquals(List.of(updatedResponse, notFoundResponse), response.getBody());
+  }
+
   @Test
   void cancelOrder_shouldReturnCancelledOrder() {
     // Arrange
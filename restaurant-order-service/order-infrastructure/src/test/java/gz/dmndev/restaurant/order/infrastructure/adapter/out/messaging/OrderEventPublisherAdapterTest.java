@@ -106,4 +106,40 @@ class OrderEventPublisherAdapterTest {
     verify(mapper).toOrderCancelledEventDto(testOrder);
     verify(kafkaTemplate).send(KafkaTopics.ORDER_EVENTS, testOrder.getId(), testEventDto);
   }
+
+  @Test
+  void publishOrderUpdatedEvents_shouldSendEachEventAndFlushOnce() {
+    // Arrange
+    Order otherOrder = Order.builder().id("order-2").status(OrderStatus.PAID).build();
+    when(mapper.toOrderUpdatedEventDto(any(Order.class))).thenReturn(testEventDto);
+    when(kafkaTemplate.send(anyString(), anyString(), any(OrderEventDto.class)))
+        .thenReturn(mock(CompletableFuture.class));
+
+    // Act
+    adapter.publishOrderUpdatedEvents(List.of(testOrder, otherOrder));
+
+    // Assert
+    verify(kafkaTemplate).send(KafkaTopics.ORDER_EVENTS, testOrder.getId(), testEventDto);
+    verify(kafkaTemplate).send(KafkaTopics.ORDER_EVENTS, "order-2", testEventDto);
+    verify(kafkaTemplate, times(1)).flush();
+  }
+
+  @Test
+  void publishOrderCancelledEvents_shouldSendCancelledEventsAndFlushOnce() {
+    // Arrange
+    Order otherOrder = Order.builder().id("order-2").status(OrderStatus.CANCELLED).build();
+    when(mapper.toOrderCancelledEventDto(any(Order.class))).thenReturn(testEventDto);
+    when(kafkaTemplate.send(anyString(), anyString(), any(OrderEventDto.class)))
+        .thenReturn(mock(CompletableFuture.class));
+
+    // Act
+    adapter.publishOrderCancelledEvents(List.of(testOrder, otherOrder));
+
+    // Assert
+    verify(mapper, times(2)).toOrderCancelledEventDto(any(Order.class));
+    verify(mapper, never()).toOrderUpdatedEventDto(any(Order.class));
+    verify(kafkaTemplate).send(KafkaTopics.ORDER_EVENTS, testOrder.getId(), testEventDto);
+    verify(kafkaTemplate).send(KafkaTopics.ORDER_EVENTS, "order-2", testEventDto);
+    verify(kafkaTemplate, times(1)).flush();
+  }
 }
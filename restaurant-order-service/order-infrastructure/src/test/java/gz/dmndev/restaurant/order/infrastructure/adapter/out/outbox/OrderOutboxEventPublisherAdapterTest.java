@@ -0,0 +1,135 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.outbox;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.common.messaging.serialization.EventDeserializer;
+import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderItem;
+import gz.dmndev.restaurant.order.domain.model.OrderStatus;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.event.OrderEventDto;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.mapper.OrderEventMapper;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderOutboxEntity;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderOutboxJpaRepository;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxEventPublisherAdapterTest {
+
+  @Mock private OrderOutboxJpaRepository outboxRepository;
+
+  private OrderOutboxEventPublisherAdapter adapter;
+
+  private Order testOrder;
+
+  @BeforeEach
+  void setUp() {
+    adapter = new OrderOutboxEventPublisherAdapter(outboxRepository, new OrderEventMapper());
+
+    OrderItem item =
+        OrderItem.createNew("item-1", "prod-1", "Test Product", 2, new BigDecimal("10.00"));
+
+    testOrder =
+        Order.builder()
+            .id("order-1")
+            .customerId("cust-1")
+            .customerName("Test Customer")
+            .items(List.of(item))
+            .subtotal(new BigDecimal("20.00"))
+            .tax(new BigDecimal("1.60"))
+            .total(new BigDecimal("21.60"))
+            .status(OrderStatus.CREATED)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .notes("Test order")
+            .build();
+  }
+
+  @Test
+  void publishOrderCreatedEvent_shouldWriteEventToOutbox() throws Exception {
+    // Act
+    adapter.publishOrderCreatedEvent(testOrder);
+
+    // Assert
+    ArgumentCaptor<OrderOutboxEntity> captor = ArgumentCaptor.forClass(OrderOutboxEntity.class);
+    verify(outboxRepository).save(captor.capture());
+    OrderOutboxEntity entry = captor.getValue();
+    assertEquals("order-1", entry.getAggregateId());
+    assertEquals("ORDER_CREATED", entry.getEventType());
+    assertEquals(KafkaTopics.ORDER_EVENTS, entry.getTopic());
+    assertNotNull(entry.getCreatedAt());
+
+    // The relay sends the payload as it is, so it must be what the consumers' deserializer reads
+    OrderEventDto event =
+        new EventDeserializer<>(OrderEventDto.class)
+            .deserialize(KafkaTopics.ORDER_EVENTS, entry.getPayload().getBytes(UTF_8));
+    assertEquals("order-1", event.getOrderId());
+    assertEquals(1, event.getItems().size());
+    assertEquals(new BigDecimal("21.60"), event.getTotal());
+  }
+
+  @Test
+  void publishOrderCancelledEvent_shouldWriteCancelledEventType() {
+    // Act
+    adapter.publishOrderCancelledEvent(testOrder);
+
+    // Assert
+    ArgumentCaptor<OrderOutboxEntity> captor = ArgumentCaptor.forClass(OrderOutboxEntity.class);
+    verify(outboxRepository).save(captor.capture());
+    assertEquals("ORDER_CANCELLED", captor.getValue().getEventType());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publishOrderUpdatedEvents_shouldWriteAllEntriesInOneCall() {
+    // Arrange
+    Order otherOrder =
+        Order.builder()
+            .id("order-2")
+            .customerId("cust-2")
+            .items(List.of())
+            .status(OrderStatus.PAID)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+
+    // Act
+    adapter.publishOrderUpdatedEvents(List.of(testOrder, otherOrder));
+
+    // Assert
+    ArgumentCaptor<List<OrderOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepository).saveAll(captor.capture());
+    verify(outboxRepository, never()).save(any());
+    List<OrderOutboxEntity> entries = captor.getValue();
+    assertEquals(
+        List.of("order-1", "order-2"),
+        entries.stream().map(OrderOutboxEntity::getAggregateId).toList());
+    assertTrue(entries.stream().allMatch(e -> "ORDER_UPDATED".equals(e.getEventType())));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void publishOrderCancelledEvents_shouldWriteCancelledEntriesInOneCall() {
+    // Act
+    adapter.publishOrderCancelledEvents(List.of(testOrder));
+
+    // Assert
+    ArgumentCaptor<List<OrderOutboxEntity>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepository).saveAll(captor.capture());
+    verify(outboxRepository, never()).save(any());
+    List<OrderOutboxEntity> entries = captor.getValue();
+    assertEquals(1, entries.size());
+    assertEquals("order-1", entries.get(0).getAggregateId());
+    assertEquals("ORDER_CANCELLED", entries.get(0).getEventType());
+  }
+}
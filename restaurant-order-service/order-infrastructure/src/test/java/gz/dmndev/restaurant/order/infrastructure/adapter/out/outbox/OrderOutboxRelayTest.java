@@ -0,0 +1,250 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.outbox;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import gz.dmndev.restaurant.common.messaging.constants.KafkaTopics;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.messaging.event.OrderEventDto;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderOutboxEntity;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderOutboxJpaRepository;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.NotLeaderOrFollowerException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+@ExtendWith(MockitoExtension.class)
+class OrderOutboxRelayTest {
+
+  @Mock private OrderOutboxJpaRepository outboxRepository;
+
+  @Mock private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+  @Mock private PlatformTransactionManager transactionManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+  private OrderOutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    relay =
+        new OrderOutboxRelay(
+            outboxRepository, kafkaTemplate, transactionManager, 2, 1000, 3, 1000, 4000);
+  }
+
+  @Test
+  void relayBatch_shouldSendStoredPayloadsAsIsAndDeleteThem() throws Exception {
+    // Arrange
+    OrderOutboxEntity first = entry(1L, "order-1");
+    OrderOutboxEntity second = entry(2L, "order-2");
+    List<OrderOutboxEntity> batch = List.of(first, second);
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(batch);
+    when(kafkaTemplate.send(eq(KafkaTopics.ORDER_EVENTS), anyString(), any(byte[].class)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // Act
+    boolean drainAgain = relay.relayBatch();
+
+    // Assert
+    assertTrue(drainAgain);
+    verify(kafkaTemplate).send(eq(KafkaTopics.ORDER_EVENTS), eq("order-1"), bytes(first));
+    verify(kafkaTemplate).send(eq(KafkaTopics.ORDER_EVENTS), eq("order-2"), bytes(second));
+    verify(kafkaTemplate).flush();
+    verify(outboxRepository).deleteAllInBatch(batch);
+    verify(outboxRepository, never()).saveAll(any());
+  }
+
+  @Test
+  void relayBatch_shouldCountAttemptAndBackOff_whenOnlySendFails() throws Exception {
+    // Arrange
+    OrderOutboxEntity entry = entry(1L, "order-1");
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+        .thenReturn(List.of(entry));
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("Too large")));
+    LocalDateTime before = LocalDateTime.now();
+
+    // Act
+    boolean drainAgain = relay.relayBatch();
+
+    // Assert
+    assertFalse(drainAgain);
+    verify(outboxRepository, never()).deleteAllInBatch(any());
+    verify(outboxRepository).saveAll(List.of(entry));
+    assertEquals(1, entry.getAttempts());
+    assertEquals(OrderOutboxEntity.Status.PENDING, entry.getStatus());
+    assertTrue(entry.getLastError().contains("Too large"));
+    assertFalse(entry.getNextAttemptAt().isBefore(before.plusSeconds(1)));
+  }
+
+  @Test
+  void relayBatch_shouldDoubleBackoffUpToMaximum() throws Exception {
+    // Arrange
+    OrderOutboxEntity second = entry(1L, "order-1");
+    second.setAttempts(1);
+    OrderOutboxEntity fifth = entry(2L, "order-2");
+    fifth.setAttempts(4);
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+        .thenReturn(List.of(second, fifth));
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(CompletableFuture.failedFuture(new NotLeaderOrFollowerException("Moved")));
+    LocalDateTime before = LocalDateTime.now();
+
+    // Act
+    relay.relayBatch();
+    LocalDateTime after = LocalDateTime.now();
+
+    // Assert
+    assertFalse(second.getNextAttemptAt().isBefore(before.plusSeconds(2)));
+    assertTrue(second.getNextAttemptAt().isBefore(after.plusSeconds(3)));
+    assertFalse(fifth.getNextAttemptAt().isBefore(before.plusSeconds(4)));
+    assertTrue(fifth.getNextAttemptAt().isBefore(after.plusSeconds(5)));
+  }
+
+  @Test
+  void relayBatch_shouldDeleteSentEntriesAndCountAttempt_whenOneSendFails() throws Exception {
+    // Arrange
+    OrderOutboxEntity bad = entry(1L, "order-1");
+    OrderOutboxEntity good = entry(2L, "order-2");
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+        .thenReturn(List.of(bad, good));
+    when(kafkaTemplate.send(eq(KafkaTopics.ORDER_EVENTS), eq("order-1"), bytes(bad)))
+        .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("Too large")));
+    when(kafkaTemplate.send(eq(KafkaTopics.ORDER_EVENTS), eq("order-2"), bytes(good)))
+        .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+    // Act
+    boolean drainAgain = relay.relayBatch();
+
+    // Assert
+    assertTrue(drainAgain);
+    verify(outboxRepository).deleteAllInBatch(List.of(good));
+    verify(outboxRepository).saveAll(List.of(bad));
+    assertEquals(1, bad.getAttempts());
+    assertEquals(OrderOutboxEntity.Status.PENDING, bad.getStatus());
+    assertNotNull(bad.getNextAttemptAt());
+  }
+
+  @Test
+  void relayBatch_shouldParkEntry_whenMaxAttemptsReached() throws Exception {
+    // Arrange
+    OrderOutboxEntity bad = entry(1L, "order-1");
+    bad.setAttempts(2);
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of(bad));
+    when(kafkaTemplate.send(eq(KafkaTopics.ORDER_EVENTS), eq("order-1"), bytes(bad)))
+        .thenThrow(new IllegalArgumentException("Invalid record"));
+
+    // Act
+    relay.relayBatch();
+
+    // Assert
+    assertEquals(3, bad.getAttempts());
+    assertEquals(OrderOutboxEntity.Status.FAILED, bad.getStatus());
+    verify(outboxRepository).saveAll(List.of(bad));
+  }
+
+  @Test
+  void relayBatch_shouldStopDrainingWithoutParking_whenBrokerIsUnavailable() throws Exception {
+    // Arrange
+    OrderOutboxEntity first = entry(1L, "order-1");
+    first.setAttempts(5);
+    OrderOutboxEntity second = entry(2L, "order-2");
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+        .thenReturn(List.of(first, second));
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new KafkaException(
+                    "Send failed",
+                    new org.apache.kafka.common.errors.TimeoutException("Expiring records"))));
+
+    // Act
+    boolean drainAgain = relay.relayBatch();
+
+    // Assert
+    assertFalse(drainAgain);
+    verify(outboxRepository).saveAll(List.of(first, second));
+    assertEquals(6, first.getAttempts());
+    assertEquals(OrderOutboxEntity.Status.PENDING, first.getStatus());
+    assertEquals(1, second.getAttempts());
+    assertNotNull(second.getNextAttemptAt());
+  }
+
+  @Test
+  void relayPendingEvents_shouldKeepFailedAttempts_whenWholeBatchFails() throws Exception {
+    // Arrange
+    OrderOutboxEntity entry = entry(1L, "order-1");
+    when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2)))
+        .thenReturn(List.of(entry));
+    when(kafkaTemplate.send(anyString(), anyString(), any(byte[].class)))
+        .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("Too large")));
+
+    // Act
+    relay.relayPendingEvents();
+
+    // Assert
+    verify(outboxRepository, times(1)).lockNextBatch(any(LocalDateTime.class), eq(2));
+    verify(outboxRepository).saveAll(List.of(entry));
+    verify(transactionManager).commit(any());
+    verify(transactionManager, never()).rollback(any());
+  }
+
+  @Test
+  void relayBatch_shouldNotTouchKafka_whenOutboxIsEmpty() {
+    // Arrange
+    when(outboxRepository.lockNextBatch(any(LocalDateTime.class), eq(2))).thenReturn(List.of());
+
+    // Act
+    boolean drainAgain = relay.relayBatch();
+
+    // Assert
+    assertFalse(drainAgain);
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  private byte[] bytes(OrderOutboxEntity entry) {
+    return aryEq(entry.getPayload().getBytes(StandardCharsets.UTF_8));
+  }
+
+  private OrderOutboxEntity entry(Long id, String orderId) throws Exception {
+    OrderEventDto event =
+        new OrderEventDto(
+            "event-" + id,
+            "ORDER_CREATED",
+            orderId,
+            "cust-1",
+            "Test Customer",
+            List.of(),
+            new BigDecimal("20.00"),
+            new BigDecimal("1.60"),
+            new BigDecimal("21.60"),
+            null,
+            null);
+    return OrderOutboxEntity.builder()
+        .id(id)
+        .aggregateId(orderId)
+        .eventType("ORDER_CREATED")
+        .topic(KafkaTopics.ORDER_EVENTS)
+        .payload(objectMapper.writeValueAsString(event))
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+}
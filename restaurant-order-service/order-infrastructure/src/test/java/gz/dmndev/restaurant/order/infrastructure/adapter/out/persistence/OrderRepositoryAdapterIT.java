@@ -3,14 +3,19 @@ package gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence;
 import static org.junit.jupiter.api.Assertions.*;
 
 import gz.dmndev.restaurant.order.domain.model.Order;
+import gz.dmndev.restaurant.order.domain.model.OrderCursor;
 import gz.dmndev.restaurant.order.domain.model.OrderItem;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import jakarta.persistence.EntityManagerFactory;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,12 +45,15 @@ class OrderRepositoryAdapterIT {
     registry.add("spring.datasource.username", postgresContainer::getUsername);
     registry.add("spring.datasource.password", postgresContainer::getPassword);
     registry.add("spring.jpa.hibernate.ddl-auto", () -> "create-drop");
+    registry.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
   }
 
   @Autowired private OrderRepositoryAdapter adapter;
 
   @Autowired private OrderJpaRepository repository;
 
+  @Autowired private EntityManagerFactory entityManagerFactory;
+
   private String orderId;
   private Order testOrder;
 
@@ -197,4 +205,162 @@ class OrderRepositoryAdapterIT {
     assertEquals(OrderStatus.PAID, fromRepo.get().getStatus());
     assertEquals("Updated notes", fromRepo.get().getNotes());
   }
+
+  @Test
+  void should_TransitionStatus_andBumpVersion_whenInExpectedStatus() {
+    // Arrange
+    adapter.create(testOrder);
+
+    // Act
+    Optional<Long> version =
+        adapter.transitionStatus(orderId, OrderStatus.CREATED, OrderStatus.PAID);
+
+    // Assert
+    assertEquals(Optional.of(1L), version);
+    Order fromRepo = adapter.findById(orderId).orElseThrow();
+    assertEquals(OrderStatus.PAID, fromRepo.getStatus());
+    assertEquals(1L, fromRepo.getVersion());
+    assertEquals(1, fromRepo.getItems().size());
+  }
+
+  @Test
+  void should_NotTransitionStatus_whenStatusChangedMeanwhile() {
+    // Arrange
+    adapter.create(testOrder);
+    adapter.transitionStatus(orderId, OrderStatus.CREATED, OrderStatus.CANCELLED);
+
+    // Act
+    Optional<Long> version =
+        adapter.transitionStatus(orderId, OrderStatus.CREATED, OrderStatus.PAID);
+
+    // Assert
+    assertTrue(version.isEmpty());
+    assertEquals(OrderStatus.CANCELLED, adapter.findById(orderId).orElseThrow().getStatus());
+  }
+
+  @Test
+  void should_TransitionOnlyOrdersInExpectedStatus_inOneStatement() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.now();
+    adapter.create(orderCreatedAt("bulk-1", now));
+    adapter.create(orderCreatedAt("bulk-2", now));
+    adapter.create(orderCreatedAt("bulk-3", now));
+    adapter.transitionStatus("bulk-3", OrderStatus.CREATED, OrderStatus.CANCELLED);
+
+    // Act
+    Map<String, Long> versions =
+        adapter.transitionStatuses(
+            List.of("bulk-1", "bulk-2", "bulk-3", "missing"),
+            OrderStatus.CREATED,
+            OrderStatus.PAID);
+
+    // Assert
+    assertEquals(Map.of("bulk-1", 1L, "bulk-2", 1L), versions);
+    assertEquals(OrderStatus.PAID, adapter.findById("bulk-1").orElseThrow().getStatus());
+    assertEquals(OrderStatus.CANCELLED, adapter.findById("bulk-3").orElseThrow().getStatus());
+  }
+
+  @Test
+  void should_FindAllById_withItems() {
+    // Arrange
+    adapter.create(testOrder);
+
+    // Act
+    List<Order> orders = adapter.findAllById(List.of(orderId, "missing"));
+
+    // Assert
+    assertEquals(1, orders.size());
+    assertEquals(orderId, orders.get(0).getId());
+    assertEquals(1, orders.get(0).getItems().size());
+  }
+
+  @Test
+  void should_PageThroughOrdersNewestFirst_usingKeysetCursor() {
+    // Arrange - three orders, two of them sharing the same creation time
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+    Order oldest = orderCreatedAt("order-a", now.minusMinutes(5));
+    Order tiedLow = orderCreatedAt("order-b", now);
+    Order tiedHigh = orderCreatedAt("order-c", now);
+    adapter.save(oldest);
+    adapter.save(tiedLow);
+    adapter.save(tiedHigh);
+
+    // Act
+    List<Order> firstPage = adapter.findPage(null, 2);
+    List<Order> secondPage = adapter.findPage(OrderCursor.of(firstPage.get(1)), 2);
+
+    // Assert
+    assertEquals(List.of("order-c", "order-b"), firstPage.stream().map(Order::getId).toList());
+    assertEquals(List.of("order-a"), secondPage.stream().map(Order::getId).toList());
+    assertEquals(1, secondPage.get(0).getItems().size());
+  }
+
+  @Test
+  void should_PageThroughCustomerOrders_only() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+    adapter.save(orderCreatedAt("order-a", now.minusMinutes(2)));
+    adapter.save(orderCreatedAt("order-b", now.minusMinutes(1)));
+    adapter.save(orderCreatedAt("order-c", now).toBuilder().customerId("cust-2").build());
+
+    // Act
+    List<Order> firstPage = adapter.findPageByCustomerId("cust-1", null, 1);
+    List<Order> secondPage =
+        adapter.findPageByCustomerId("cust-1", OrderCursor.of(firstPage.get(0)), 1);
+
+    // Assert
+    assertEquals("order-b", firstPage.get(0).getId());
+    assertEquals("order-a", secondPage.get(0).getId());
+    assertTrue(
+        adapter.findPageByCustomerId("cust-1", OrderCursor.of(secondPage.get(0)), 1).isEmpty());
+  }
+
+  @Test
+  void should_LoadPageOfOrdersWithItems_inTwoQueries() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+    for (int i = 0; i < 5; i++) {
+      adapter.save(orderCreatedAt("order-" + i, now.plusMinutes(i)));
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // Act
+    List<Order> page = adapter.findPage(null, 10);
+
+    // Assert - one query for the orders, one for the items of all of them
+    assertEquals(5, page.size());
+    page.forEach(order -> assertEquals(1, order.getItems().size()));
+    assertEquals(2, statistics.getPrepareStatementCount());
+  }
+
+  @Test
+  void should_LoadCustomerOrdersWithItems_inSingleQuery() {
+    // Arrange
+    LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+    for (int i = 0; i < 5; i++) {
+      adapter.save(orderCreatedAt("order-" + i, now.plusMinutes(i)));
+    }
+    Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    statistics.clear();
+
+    // Act
+    List<Order> orders = adapter.findByCustomerId("cust-1");
+
+    // Assert
+    assertEquals(5, orders.size());
+    assertEquals(1, statistics.getPrepareStatementCount());
+  }
+
+  private Order orderCreatedAt(String id, LocalDateTime createdAt) {
+    OrderItem item =
+        OrderItem.createNew(
+            UUID.randomUUID().toString(), "prod-1", "Test Product", 1, new BigDecimal("10.00"));
+    return testOrder.toBuilder()
+        .id(id)
+        .items(List.of(item))
+        .createdAt(createdAt)
+        .updatedAt(createdAt)
+        .build();
+  }
 }
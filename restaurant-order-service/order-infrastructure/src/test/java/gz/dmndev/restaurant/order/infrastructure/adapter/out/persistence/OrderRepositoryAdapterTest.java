@@ -8,6 +8,7 @@ import gz.dmndev.restaurant.order.domain.model.Order;
 import gz.dmndev.restaurant.order.domain.model.OrderItem;
 import gz.dmndev.restaurant.order.domain.model.OrderStatus;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderEntity;
+import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.entity.OrderItemEntity;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
 import gz.dmndev.restaurant.order.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
 import java.math.BigDecimal;
@@ -76,6 +77,38 @@ class OrderRepositoryAdapterTest {
     verify(mapper).toDomainWithRelationships(testEntity);
   }
 
+  @Test
+  void create_shouldMarkOrderAndItemsAsNew() {
+    // Arrange
+    OrderItemEntity itemEntity = new OrderItemEntity();
+    testEntity.setItems(List.of(itemEntity));
+    when(mapper.toEntityWithRelationships(testOrder)).thenReturn(testEntity);
+    when(orderRepository.save(testEntity)).thenReturn(testEntity);
+    when(mapper.toDomainWithRelationships(testEntity)).thenReturn(testOrder);
+
+    // Act
+    Order result = adapter.create(testOrder);
+
+    // Assert
+    assertEquals(testOrder, result);
+    assertTrue(testEntity.isNew());
+    assertTrue(itemEntity.isNew());
+  }
+
+  @Test
+  void save_shouldNotMarkOrderAsNew() {
+    // Arrange
+    when(mapper.toEntityWithRelationships(testOrder)).thenReturn(testEntity);
+    when(orderRepository.save(testEntity)).thenReturn(testEntity);
+    when(mapper.toDomainWithRelationships(testEntity)).thenReturn(testOrder);
+
+    // Act
+    adapter.save(testOrder);
+
+    // Assert
+    assertFalse(testEntity.isNew());
+  }
+
   @Test
   void findById_shouldReturnOrder_whenFound() {
     // Arrange
@@ -0,0 +1,90 @@
+package gz.dmndev.restaurant.order.infrastructure.adapter.out.rest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import gz.dmndev.restaurant.order.application.port.out.MenuServicePort.ProductInfo;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+class MenuProductCacheTest {
+
+  private MeterRegistry meterRegistry;
+  private MenuProductCache cache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    beanFactory.addBean("meterRegistry", meterRegistry);
+    cache =
+        new MenuProductCache(
+            2, Duration.ofMinutes(1), beanFactory.getBeanProvider(MeterRegistry.class));
+  }
+
+  @Test
+  void get_shouldReturnCachedProduct_andRecordHitsAndMisses() {
+    // Arrange
+    ProductInfo product = product("prod-1");
+    cache.put(product, cache.generation());
+
+    // Act
+    var hit = cache.get("prod-1");
+    var miss = cache.get("prod-2");
+
+    // Assert
+    assertEquals(product, hit.orElseThrow());
+    assertTrue(miss.isEmpty());
+    assertEquals(
+        1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+    assertEquals(
+        1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+  }
+
+  @Test
+  void put_shouldEvictEntries_whenMaximumSizeIsExceeded() {
+    // Act
+    cache.putAll(
+        List.of(product("prod-1"), product("prod-2"), product("prod-3")), cache.generation());
+
+    // Assert
+    assertEquals(2, cache.getAll(List.of("prod-1", "prod-2", "prod-3")).size());
+    assertEquals(1.0, meterRegistry.get("cache.evictions").functionCounter().count());
+  }
+
+  @Test
+  void invalidate_shouldRemoveProduct() {
+    // Arrange
+    cache.put(product("prod-1"), cache.generation());
+
+    // Act
+    cache.invalidate("prod-1");
+
+    // Assert
+    assertTrue(cache.get("prod-1").isEmpty());
+  }
+
+  @Test
+  void put_shouldDropProductLoadedBeforeAnInvalidation() {
+    // Arrange
+    long loadedAt = cache.generation();
+    cache.invalidate("prod-1");
+
+    // Act
+    cache.put(product("prod-1"), loadedAt);
+    cache.putAll(List.of(product("prod-2")), loadedAt);
+
+    // Assert
+    assertTrue(cache.get("prod-1").isEmpty());
+    assertTrue(cache.get("prod-2").isEmpty());
+  }
+
+  private ProductInfo product(String id) {
+    return new ProductInfo(id, "Product " + id, new BigDecimal("10.00"), true);
+  }
+}
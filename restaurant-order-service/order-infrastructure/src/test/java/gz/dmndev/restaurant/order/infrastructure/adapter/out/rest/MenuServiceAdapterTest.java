@@ -5,6 +5,8 @@ import static org.mockito.Mockito.*;
 
 import gz.dmndev.restaurant.order.application.port.out.MenuServicePort.ProductInfo;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,6 +19,7 @@ import org.springframework.web.client.RestClientException;
 class MenuServiceAdapterTest {
 
   @Mock private MenuServiceClient menuServiceClient;
+  @Mock private MenuProductCache productCache;
 
   @InjectMocks private MenuServiceAdapter adapter;
 
@@ -40,6 +43,20 @@ class MenuServiceAdapterTest {
     assertTrue(result.get().available());
   }
 
+  @Test
+  void getProduct_shouldUseCachedProduct_withoutCallingMenuService() {
+    // Arrange
+    ProductInfo cached = new ProductInfo("prod-1", "Cached", new BigDecimal("5.00"), true);
+    when(productCache.get("prod-1")).thenReturn(Optional.of(cached));
+
+    // Act
+    Optional<ProductInfo> result = adapter.getProduct("prod-1");
+
+    // Assert
+    assertEquals(Optional.of(cached), result);
+    verifyNoInteractions(menuServiceClient);
+  }
+
   @Test
   void getProduct_shouldReturnEmpty_whenExceptionOccurs() {
     // Arrange
@@ -66,4 +83,89 @@ class MenuServiceAdapterTest {
     // Assert
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  void getProducts_shouldReturnProductsKeyedById_inSingleCall() {
+    // Arrange
+    List<String> productIds = List.of("prod-1", "prod-2");
+    when(menuServiceClient.getProducts(productIds))
+        .thenReturn(
+            List.of(
+                new MenuServiceClient.ProductResponse(
+                    "prod-1", "Burger", new BigDecimal("10.00"), true),
+                new MenuServiceClient.ProductResponse(
+                    "prod-2", "Fries", new BigDecimal("3.50"), false)));
+
+    // Act
+    Map<String, ProductInfo> result = adapter.getProducts(productIds);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertEquals("Burger", result.get("prod-1").name());
+    assertFalse(result.get("prod-2").available());
+    verify(menuServiceClient, times(1)).getProducts(productIds);
+    verify(menuServiceClient, never()).getProduct(anyString());
+  }
+
+  @Test
+  void getProducts_shouldFetchOnlyUncachedProducts_andCacheThem() {
+    // Arrange
+    List<String> productIds = List.of("prod-1", "prod-2");
+    ProductInfo cached = new ProductInfo("prod-1", "Burger", new BigDecimal("10.00"), true);
+    when(productCache.getAll(productIds)).thenReturn(Map.of("prod-1", cached));
+    when(productCache.generation()).thenReturn(7L);
+    when(menuServiceClient.getProducts(List.of("prod-2")))
+        .thenReturn(
+            List.of(
+                new MenuServiceClient.ProductResponse(
+                    "prod-2", "Fries", new BigDecimal("3.50"), true)));
+
+    // Act
+    Map<String, ProductInfo> result = adapter.getProducts(productIds);
+
+    // Assert
+    assertEquals(2, result.size());
+    assertSame(cached, result.get("prod-1"));
+    verify(menuServiceClient).getProducts(List.of("prod-2"));
+    verify(productCache).putAll(List.of(result.get("prod-2")), 7L);
+  }
+
+  @Test
+  void getProducts_shouldNotCallMenuService_whenAllProductsAreCached() {
+    // Arrange
+    List<String> productIds = List.of("prod-1");
+    ProductInfo cached = new ProductInfo("prod-1", "Burger", new BigDecimal("10.00"), true);
+    when(productCache.getAll(productIds)).thenReturn(Map.of("prod-1", cached));
+
+    // Act
+    Map<String, ProductInfo> result = adapter.getProducts(productIds);
+
+    // Assert
+    assertEquals(Map.of("prod-1", cached), result);
+    verifyNoInteractions(menuServiceClient);
+  }
+
+  @Test
+  void getProducts_shouldReturnEmptyMap_whenExceptionOccurs() {
+    // Arrange
+    List<String> productIds = List.of("prod-1");
+    when(menuServiceClient.getProducts(productIds))
+        .thenThrow(new RestClientException("Service unavailable"));
+
+    // Act
+    Map<String, ProductInfo> result = adapter.getProducts(productIds);
+
+    // Assert
+    assertTrue(result.isEmpty());
+  }
+
+  @Test
+  void getProducts_shouldNotCallMenuService_whenNoIdsGiven() {
+    // Act
+    Map<String, ProductInfo> result = adapter.getProducts(List.of());
+
+    // Assert
+    assertTrue(result.isEmpty());
+    verifyNoInteractions(menuServiceClient);
+  }
 }